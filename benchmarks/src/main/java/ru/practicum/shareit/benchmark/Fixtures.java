@@ -0,0 +1,96 @@
+package ru.practicum.shareit.benchmark;
+
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingSummary;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSummary;
+import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.itemrequest.model.ItemRequest;
+import ru.practicum.shareit.itemrequest.model.ItemRequestSummary;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static ru.practicum.shareit.item.model.CommentMapper.commentToDto;
+
+public class Fixtures {
+    public static final int COMMENTS = 10;
+    public static final int REQUEST_ITEMS = 5;
+    public static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 15, 12, 30, 45, 123_456_000);
+
+    public static final User OWNER = new User(1, "owner", "owner@email.com");
+    public static final User BOOKER = new User(2, "booker", "booker@email.com");
+    public static final ItemRequest REQUEST = new ItemRequest(
+            1,
+            "Нужна дрель для ремонта",
+            BOOKER,
+            NOW.minusDays(3),
+            null
+    );
+    public static final Item ITEM = new Item(1, "Дрель", "Аккумуляторная дрель с набором бит", true, OWNER, REQUEST);
+    public static final Booking LAST_BOOKING = new Booking(
+            1,
+            NOW.minusDays(2),
+            NOW.minusDays(1),
+            ITEM,
+            BOOKER,
+            BookingStatus.APPROVED,
+            0
+    );
+    public static final Booking NEXT_BOOKING = new Booking(
+            2,
+            NOW.plusDays(1),
+            NOW.plusDays(2),
+            ITEM,
+            BOOKER,
+            BookingStatus.WAITING,
+            0
+    );
+    public static final BookingSummary BOOKING_SUMMARY = new BookingSummary(
+            NEXT_BOOKING.getId(),
+            NEXT_BOOKING.getStart(),
+            NEXT_BOOKING.getEnd(),
+            NEXT_BOOKING.getStatus(),
+            ITEM.getId(),
+            ITEM.getName(),
+            ITEM.getDescription(),
+            ITEM.getIsAvailable(),
+            REQUEST.getId(),
+            BOOKER.getId(),
+            BOOKER.getName(),
+            BOOKER.getEmail()
+    );
+    public static final Comment COMMENT = new Comment(1, "Отличная дрель, всё работает", ITEM, BOOKER, NOW);
+    public static final List<CommentDto> COMMENT_DTOS = IntStream.range(0, COMMENTS)
+            .mapToObj(i -> commentToDto(
+                    new Comment(i, "Комментарий " + i, ITEM, BOOKER, NOW.minusHours(i)),
+                    BOOKER.getName()
+            ))
+            .collect(Collectors.toList());
+    public static final ItemSummary ITEM_SUMMARY = new ItemSummary(
+            ITEM.getId(),
+            ITEM.getName(),
+            ITEM.getDescription(),
+            ITEM.getIsAvailable(),
+            REQUEST.getId()
+    );
+    public static final ItemRequestSummary REQUEST_SUMMARY = new ItemRequestSummary(
+            REQUEST.getId(),
+            REQUEST.getDescription(),
+            REQUEST.getCreated()
+    );
+    public static final List<ItemSummary> REQUEST_ITEM_SUMMARIES = IntStream.range(0, REQUEST_ITEMS)
+            .mapToObj(i -> new ItemSummary(i, "Дрель " + i, "Описание " + i, true, REQUEST.getId()))
+            .collect(Collectors.toList());
+
+    static {
+        REQUEST.setItems(IntStream.range(0, REQUEST_ITEMS)
+                .mapToObj(i -> new Item(i, "Дрель " + i, "Описание " + i, true, OWNER, REQUEST))
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.model.dto.BookingDtoOutgoing;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+import ru.practicum.shareit.itemrequest.model.ItemRequestDto;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.benchmark.Fixtures.COMMENT_DTOS;
+import static ru.practicum.shareit.benchmark.Fixtures.ITEM;
+import static ru.practicum.shareit.benchmark.Fixtures.LAST_BOOKING;
+import static ru.practicum.shareit.benchmark.Fixtures.NEXT_BOOKING;
+import static ru.practicum.shareit.benchmark.Fixtures.REQUEST;
+import static ru.practicum.shareit.booking.model.BookingMapper.bookingToDtoOutgoing;
+import static ru.practicum.shareit.item.model.ItemMapper.itemToDto;
+import static ru.practicum.shareit.itemrequest.model.ItemRequestMapper.itemRequestToDto;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+    private ObjectWriter itemWriter;
+    private ObjectWriter bookingWriter;
+    private ObjectWriter itemRequestWriter;
+    private ObjectReader itemReader;
+    private ObjectReader bookingReader;
+    private ObjectReader itemRequestReader;
+
+    private ItemDto item;
+    private BookingDtoOutgoing booking;
+    private ItemRequestDto itemRequest;
+    private byte[] itemJson;
+    private byte[] bookingJson;
+    private byte[] itemRequestJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new ParameterNamesModule())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        itemWriter = objectMapper.writerFor(ItemDto.class);
+        bookingWriter = objectMapper.writerFor(BookingDtoOutgoing.class);
+        itemRequestWriter = objectMapper.writerFor(ItemRequestDto.class);
+        itemReader = objectMapper.readerFor(ItemDto.class);
+        bookingReader = objectMapper.readerFor(BookingDtoOutgoing.class);
+        itemRequestReader = objectMapper.readerFor(ItemRequestDto.class);
+
+        item = itemToDto(ITEM, LAST_BOOKING, NEXT_BOOKING, COMMENT_DTOS, COMMENT_DTOS.size());
+        booking = bookingToDtoOutgoing(NEXT_BOOKING);
+        itemRequest = itemRequestToDto(REQUEST);
+        itemJson = itemWriter.writeValueAsBytes(item);
+        bookingJson = bookingWriter.writeValueAsBytes(booking);
+        itemRequestJson = itemRequestWriter.writeValueAsBytes(itemRequest);
+
+        if (!item.equals(itemReader.readValue(itemJson))
+                || !booking.equals(bookingReader.readValue(bookingJson))
+                || !itemRequest.equals(itemRequestReader.readValue(itemRequestJson))) {
+            throw new IllegalStateException("DTO изменились после сериализации и десериализации");
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeItem() throws JsonProcessingException {
+        return itemWriter.writeValueAsBytes(item);
+    }
+
+    @Benchmark
+    public ItemDto deserializeItem() throws IOException {
+        return itemReader.readValue(itemJson);
+    }
+
+    @Benchmark
+    public byte[] serializeBooking() throws JsonProcessingException {
+        return bookingWriter.writeValueAsBytes(booking);
+    }
+
+    @Benchmark
+    public BookingDtoOutgoing deserializeBooking() throws IOException {
+        return bookingReader.readValue(bookingJson);
+    }
+
+    @Benchmark
+    public byte[] serializeItemRequest() throws JsonProcessingException {
+        return itemRequestWriter.writeValueAsBytes(itemRequest);
+    }
+
+    @Benchmark
+    public ItemRequestDto deserializeItemRequest() throws IOException {
+        return itemRequestReader.readValue(itemRequestJson);
+    }
+}
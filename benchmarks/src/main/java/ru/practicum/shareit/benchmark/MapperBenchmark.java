@@ -0,0 +1,112 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingSummary;
+import ru.practicum.shareit.booking.model.dto.BookingDtoOutgoing;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSummary;
+import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+import ru.practicum.shareit.itemrequest.model.ItemRequest;
+import ru.practicum.shareit.itemrequest.model.ItemRequestDto;
+import ru.practicum.shareit.itemrequest.model.ItemRequestSummary;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.benchmark.Fixtures.BOOKER;
+import static ru.practicum.shareit.benchmark.Fixtures.BOOKING_SUMMARY;
+import static ru.practicum.shareit.benchmark.Fixtures.COMMENT;
+import static ru.practicum.shareit.benchmark.Fixtures.COMMENT_DTOS;
+import static ru.practicum.shareit.benchmark.Fixtures.ITEM;
+import static ru.practicum.shareit.benchmark.Fixtures.ITEM_SUMMARY;
+import static ru.practicum.shareit.benchmark.Fixtures.LAST_BOOKING;
+import static ru.practicum.shareit.benchmark.Fixtures.NEXT_BOOKING;
+import static ru.practicum.shareit.benchmark.Fixtures.REQUEST;
+import static ru.practicum.shareit.benchmark.Fixtures.REQUEST_ITEM_SUMMARIES;
+import static ru.practicum.shareit.benchmark.Fixtures.REQUEST_SUMMARY;
+import static ru.practicum.shareit.booking.model.BookingMapper.bookingToDtoOutgoing;
+import static ru.practicum.shareit.item.model.CommentMapper.commentToDto;
+import static ru.practicum.shareit.item.model.ItemMapper.itemToDto;
+import static ru.practicum.shareit.itemrequest.model.ItemRequestMapper.itemRequestToDto;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private Item item;
+    private Booking lastBooking;
+    private Booking nextBooking;
+    private BookingSummary bookingSummary;
+    private List<CommentDto> commentDtos;
+    private ItemSummary itemSummary;
+    private Comment comment;
+    private String authorName;
+    private ItemRequest itemRequest;
+    private ItemRequestSummary itemRequestSummary;
+    private List<ItemSummary> itemRequestItemSummaries;
+
+    @Setup
+    public void setUp() {
+        item = ITEM;
+        lastBooking = LAST_BOOKING;
+        nextBooking = NEXT_BOOKING;
+        bookingSummary = BOOKING_SUMMARY;
+        commentDtos = COMMENT_DTOS;
+        itemSummary = ITEM_SUMMARY;
+        comment = COMMENT;
+        authorName = BOOKER.getName();
+        itemRequest = REQUEST;
+        itemRequestSummary = REQUEST_SUMMARY;
+        itemRequestItemSummaries = REQUEST_ITEM_SUMMARIES;
+    }
+
+    @Benchmark
+    public BookingDtoOutgoing bookingToDtoOutgoingFromEntity() {
+        return bookingToDtoOutgoing(nextBooking);
+    }
+
+    @Benchmark
+    public BookingDtoOutgoing bookingToDtoOutgoingFromSummary() {
+        return bookingToDtoOutgoing(bookingSummary);
+    }
+
+    @Benchmark
+    public ItemDto itemToDtoWithBookingsAndComments() {
+        return itemToDto(item, lastBooking, nextBooking, commentDtos, commentDtos.size());
+    }
+
+    @Benchmark
+    public ItemDto itemToDtoFromSummary() {
+        return itemToDto(itemSummary);
+    }
+
+    @Benchmark
+    public CommentDto commentToDtoFromEntity() {
+        return commentToDto(comment, authorName);
+    }
+
+    @Benchmark
+    public ItemRequestDto itemRequestToDtoFromEntity() {
+        return itemRequestToDto(itemRequest);
+    }
+
+    @Benchmark
+    public ItemRequestDto itemRequestToDtoFromSummary() {
+        return itemRequestToDto(itemRequestSummary, itemRequestItemSummaries);
+    }
+}
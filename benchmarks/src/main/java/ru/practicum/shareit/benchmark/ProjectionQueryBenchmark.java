@@ -0,0 +1,151 @@
+package ru.practicum.shareit.benchmark;
+
+import org.hibernate.jpa.QueryHints;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingMapper;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.dto.BookingDtoOutgoing;
+import ru.practicum.shareit.booking.storage.BookingStorage;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemMapper;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+import ru.practicum.shareit.item.storage.ItemStorage;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectionQueryBenchmark {
+    private static final int PAGE_SIZE = 100;
+    private static final String SEARCH_TEXT = "projection";
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private EntityManager entityManager;
+    private BookingStorage bookingStorage;
+    private ItemStorage itemStorage;
+    private int bookerId;
+
+    @Setup
+    public void setUp() {
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(new DriverManagerDataSource("jdbc:h2:mem:projections;DB_CLOSE_DELAY=-1"));
+        entityManagerFactory.setPackagesToScan("ru.practicum.shareit");
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        entityManagerFactory.afterPropertiesSet();
+
+        entityManager = entityManagerFactory.getObject().createEntityManager();
+        JpaRepositoryFactory repositories = new JpaRepositoryFactory(entityManager);
+        bookingStorage = repositories.getRepository(BookingStorage.class);
+        itemStorage = repositories.getRepository(ItemStorage.class);
+
+        entityManager.getTransaction().begin();
+        User owner = new User(null, "owner", "owner@email.com");
+        User booker = new User(null, "booker", "booker@email.com");
+        entityManager.persist(owner);
+        entityManager.persist(booker);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Item item = new Item(null, SEARCH_TEXT + i, "description" + i, true, owner, null);
+            entityManager.persist(item);
+            entityManager.persist(new Booking(
+                    null,
+                    start.plusHours(i),
+                    start.plusHours(i + 1),
+                    item,
+                    booker,
+                    BookingStatus.WAITING,
+                    null
+            ));
+        }
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+        bookerId = booker.getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.destroy();
+    }
+
+    @Benchmark
+    public List<BookingDtoOutgoing> bookingPageFromEntities() {
+        entityManager.clear();
+        return entityManager.createQuery("select b " +
+                        "from Booking as b " +
+                        "join fetch b.item " +
+                        "join fetch b.booker " +
+                        "where b.booker.id = :bookerId " +
+                        "order by b.start desc", Booking.class)
+                .setParameter("bookerId", bookerId)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList().stream()
+                .map(BookingMapper::bookingToDtoOutgoing)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<BookingDtoOutgoing> bookingPageFromProjections() {
+        entityManager.clear();
+        return bookingStorage.findByBookerIdOrderByStartDesc(bookerId, PageRequest.of(0, PAGE_SIZE)).stream()
+                .map(BookingMapper::bookingToDtoOutgoing)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ItemDto> itemPageFromEntities() {
+        entityManager.clear();
+        return entityManager.createQuery("select it " +
+                        "from Item as it " +
+                        "where (lower(it.name) like lower(concat('%', ?1,'%')) " +
+                        "or lower(it.description) like lower(concat('%', ?1,'%'))) " +
+                        "and it.isAvailable = TRUE " +
+                        "order by case " +
+                        "when lower(it.name) = lower(?1) then 0 " +
+                        "when lower(it.name) like lower(concat(?1, '%')) then 1 " +
+                        "when lower(it.name) like lower(concat('%', ?1, '%')) then 2 " +
+                        "else 3 end, it.id", Item.class)
+                .setParameter(1, SEARCH_TEXT)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList().stream()
+                .map(item -> ItemMapper.itemToDto(item, null, null, null))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ItemDto> itemPageFromProjections() {
+        entityManager.clear();
+        return itemStorage.findByText(SEARCH_TEXT, PageRequest.of(0, PAGE_SIZE)).stream()
+                .map(ItemMapper::itemToDto)
+                .collect(Collectors.toList());
+    }
+}
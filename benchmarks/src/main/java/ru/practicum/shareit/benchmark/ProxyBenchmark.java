@@ -0,0 +1,152 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.benchmark.Fixtures.COMMENT_DTOS;
+import static ru.practicum.shareit.benchmark.Fixtures.ITEM;
+import static ru.practicum.shareit.benchmark.Fixtures.LAST_BOOKING;
+import static ru.practicum.shareit.benchmark.Fixtures.NEXT_BOOKING;
+import static ru.practicum.shareit.item.model.ItemMapper.itemToDto;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    private RestTemplate restTemplate;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new ParameterNamesModule())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        List<ItemDto> page = Collections.nCopies(
+                PAGE_SIZE,
+                itemToDto(ITEM, LAST_BOOKING, NEXT_BOOKING, COMMENT_DTOS, COMMENT_DTOS.size())
+        );
+        byte[] body = objectMapper.writeValueAsBytes(page);
+        restTemplate = new RestTemplate();
+        restTemplate.setRequestFactory((uri, method) -> new StubRequest(uri, method, body));
+    }
+
+    @Benchmark
+    public byte[] passThrough() {
+        return restTemplate.exchange("http://server/items", HttpMethod.GET, null, byte[].class).getBody();
+    }
+
+    @Benchmark
+    public byte[] deserializeAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                restTemplate.exchange("http://server/items", HttpMethod.GET, null, Object.class).getBody()
+        );
+    }
+
+    private static class StubRequest extends AbstractClientHttpRequest {
+        private final URI uri;
+        private final HttpMethod method;
+        private final byte[] body;
+
+        StubRequest(URI uri, HttpMethod method, byte[] body) {
+            this.uri = uri;
+            this.method = method;
+            this.body = body;
+        }
+
+        @Override
+        public String getMethodValue() {
+            return method.name();
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        protected OutputStream getBodyInternal(HttpHeaders headers) {
+            return new ByteArrayOutputStream();
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers) {
+            return new StubResponse(body);
+        }
+    }
+
+    private static class StubResponse implements ClientHttpResponse {
+        private final byte[] body;
+        private final HttpHeaders headers = new HttpHeaders();
+
+        StubResponse(byte[] body) {
+            this.body = body;
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setContentLength(body.length);
+        }
+
+        @Override
+        public HttpStatus getStatusCode() {
+            return HttpStatus.OK;
+        }
+
+        @Override
+        public int getRawStatusCode() {
+            return HttpStatus.OK.value();
+        }
+
+        @Override
+        public String getStatusText() {
+            return HttpStatus.OK.getReasonPhrase();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
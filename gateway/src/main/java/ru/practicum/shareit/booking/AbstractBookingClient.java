@@ -0,0 +1,79 @@
+package ru.practicum.shareit.booking;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
+import ru.practicum.shareit.client.ServerClient;
+import ru.practicum.shareit.exception.BookingStateException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+public abstract class AbstractBookingClient<R> {
+    protected static final String API_PREFIX = "/bookings";
+
+    private final ServerClient<R> server;
+
+    protected AbstractBookingClient(ServerClient<R> server) {
+        this.server = server;
+    }
+
+    public R addBooking(int userId, BookingDtoDefault bookingDtoDefault) {
+        log.info("Запрос на добавление бронирования {} от пользователя с id={}", bookingDtoDefault, userId);
+        return server.post("", userId, bookingDtoDefault);
+    }
+
+    public R approveBooking(int userId, int bookingId, boolean approved) {
+        log.info(
+                "Запрос на одобрение/отклонение бронирования с id={} от пользователя с id={} с параметром approved={}",
+                bookingId,
+                userId,
+                approved
+        );
+        return server.patch("/" + bookingId + "?approved={approved}",
+                userId,
+                Map.of("approved", approved),
+                null
+        );
+    }
+
+    public R getById(int userId, int bookingId) {
+        log.info("Запрос на просмотр бронирования с id={} от пользователя с id={}", bookingId, userId);
+        return server.get("/" + bookingId, userId, null);
+    }
+
+    public R getUserBookings(int userId, String state, int from, int size, String after) {
+        try {
+            BookingState.valueOf(state);
+        } catch (IllegalArgumentException e) {
+            throw new BookingStateException("Unknown state: " + state);
+        }
+        log.info("Запрос на просмотр своих бронирований от пользователя с id={}", userId);
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "state", state,
+                "from", from,
+                "size", size
+        ));
+        if (after == null) return server.get("?state={state}&from={from}&size={size}", userId, parameters);
+        parameters.put("after", after);
+        return server.get("?state={state}&from={from}&size={size}&after={after}", userId, parameters);
+    }
+
+    public R getOwnerBookings(int userId, String state, int from, int size, String after) {
+        try {
+            BookingState.valueOf(state);
+        } catch (IllegalArgumentException e) {
+            throw new BookingStateException("Unknown state: " + state);
+        }
+        log.info("Запрос на просмотр бронирований своих вещей от пользователя с id={}", userId);
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "state", state,
+                "from", from,
+                "size", size
+        ));
+        if (after == null) return server.get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+        parameters.put("after", after);
+        return server.get("/owner?state={state}&from={from}&size={size}&after={after}", userId, parameters);
+    }
+}
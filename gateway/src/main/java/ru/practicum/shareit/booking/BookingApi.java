@@ -0,0 +1,57 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@RequestMapping("/bookings")
+public interface BookingApi<R> {
+    String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    @PostMapping
+    R addBooking(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @Valid @RequestBody BookingDtoDefault bookingDtoDefault
+    );
+
+    @PatchMapping("/{bookingId}")
+    R approveBooking(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int bookingId,
+            @RequestParam boolean approved
+    );
+
+    @GetMapping("/{bookingId}")
+    R getById(@RequestHeader(USER_ID_HEADER) int userId, @PathVariable int bookingId);
+
+    @GetMapping
+    R getUserBookings(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(defaultValue = "0") @PositiveOrZero Integer from,
+            @RequestParam(defaultValue = "10") @Positive Integer size,
+            @RequestParam(required = false)
+            @Pattern(regexp = "[A-Za-z0-9_-]+", message = "Некорректный курсор") String after
+    );
+
+    @GetMapping("/owner")
+    R getOwnerBookings(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(defaultValue = "0") @PositiveOrZero Integer from,
+            @RequestParam(defaultValue = "10") @Positive Integer size,
+            @RequestParam(required = false)
+            @Pattern(regexp = "[A-Za-z0-9_-]+", message = "Некорректный курсор") String after
+    );
+}
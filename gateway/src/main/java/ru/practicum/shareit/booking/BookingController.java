@@ -1,71 +1,41 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PatchMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
 
-import javax.validation.Valid;
-import javax.validation.constraints.Positive;
-import javax.validation.constraints.PositiveOrZero;
-
 @RestController
-@RequestMapping("/bookings")
+@ConditionalOnProperty(name = "shareit-gateway.client.reactive.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Validated
-public class BookingController {
+public class BookingController implements BookingApi<ResponseEntity<Object>> {
     private final BookingClient bookingClient;
 
-    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
-
-    @PostMapping
-    public ResponseEntity<Object> addBooking(
-            @RequestHeader(USER_ID_HEADER) int userId,
-            @Valid @RequestBody BookingDtoDefault bookingDtoDefault
-    ) {
+    @Override
+    public ResponseEntity<Object> addBooking(int userId, BookingDtoDefault bookingDtoDefault) {
         return bookingClient.addBooking(userId, bookingDtoDefault);
     }
 
-    @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> approveBooking(
-            @RequestHeader(USER_ID_HEADER) int userId,
-            @PathVariable int bookingId,
-            @RequestParam boolean approved
-    ) {
+    @Override
+    public ResponseEntity<Object> approveBooking(int userId, int bookingId, boolean approved) {
         return bookingClient.approveBooking(userId, bookingId, approved);
     }
 
-    @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getById(@RequestHeader(USER_ID_HEADER) int userId, @PathVariable int bookingId) {
+    @Override
+    public ResponseEntity<Object> getById(int userId, int bookingId) {
         return bookingClient.getById(userId, bookingId);
     }
 
-    @GetMapping
-    public ResponseEntity<Object> getUserBookings(
-            @RequestHeader(USER_ID_HEADER) int userId,
-            @RequestParam(defaultValue = "ALL") String state,
-            @RequestParam(defaultValue = "0") @PositiveOrZero Integer from,
-            @RequestParam(defaultValue = "10") @Positive Integer size
-    ) {
-        return bookingClient.getUserBookings(userId, state, from, size);
+    @Override
+    public ResponseEntity<Object> getUserBookings(int userId, String state, Integer from, Integer size, String after) {
+        return bookingClient.getUserBookings(userId, state, from, size, after);
     }
 
-    @GetMapping("/owner")
-    public ResponseEntity<Object> getOwnerBookings(
-            @RequestHeader(USER_ID_HEADER) int userId,
-            @RequestParam(defaultValue = "ALL") String state,
-            @RequestParam(defaultValue = "0") @PositiveOrZero Integer from,
-            @RequestParam(defaultValue = "10") @Positive Integer size
-    ) {
-        return bookingClient.getOwnerBookings(userId, state, from, size);
+    @Override
+    public ResponseEntity<Object> getOwnerBookings(int userId, String state, Integer from, Integer size, String after) {
+        return bookingClient.getOwnerBookings(userId, state, from, size, after);
     }
 }
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
+
+@RestController
+@ConditionalOnProperty(name = "shareit-gateway.client.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Validated
+public class ReactiveBookingController implements BookingApi<Mono<ResponseEntity<Object>>> {
+    private final ReactiveBookingClient bookingClient;
+
+    @Override
+    public Mono<ResponseEntity<Object>> addBooking(int userId, BookingDtoDefault bookingDtoDefault) {
+        return bookingClient.addBooking(userId, bookingDtoDefault);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> approveBooking(int userId, int bookingId, boolean approved) {
+        return bookingClient.approveBooking(userId, bookingId, approved);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getById(int userId, int bookingId) {
+        return bookingClient.getById(userId, bookingId);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getUserBookings(
+            int userId,
+            String state,
+            Integer from,
+            Integer size,
+            String after
+    ) {
+        return bookingClient.getUserBookings(userId, state, from, size, after);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getOwnerBookings(
+            int userId,
+            String state,
+            Integer from,
+            Integer size,
+            String after
+    ) {
+        return bookingClient.getOwnerBookings(userId, state, from, size, after);
+    }
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.cache;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+@Value
+public class CachedResponse {
+    long generation;
+    String etag;
+    Map<String, List<String>> headers;
+    byte[] body;
+}
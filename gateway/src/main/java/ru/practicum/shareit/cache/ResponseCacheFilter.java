@@ -0,0 +1,174 @@
+package ru.practicum.shareit.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Кэш ответов работает только в блокирующем режиме на сервлетах: в реактивном режиме
+ * (shareit-gateway.client.reactive.enabled=true) фильтр не создается и ответы не кэшируются.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ResponseCacheFilter extends OncePerRequestFilter implements MeterBinder {
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            HttpHeaders.ETAG.toLowerCase(),
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.DATE.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase(),
+            "keep-alive"
+    );
+    private static final Map<String, Set<String>> AFFECTED_FAMILIES = Map.of(
+            "users", Set.of("users", "items", "bookings", "requests"),
+            "items", Set.of("items", "bookings", "requests"),
+            "bookings", Set.of("bookings", "items"),
+            "requests", Set.of("requests")
+    );
+
+    private final boolean enabled;
+    private final Cache<String, CachedResponse> responses;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public ResponseCacheFilter(@Value("${shareit-gateway.response-cache.enabled:false}") boolean enabled,
+                               @Value("${shareit-gateway.response-cache.ttl:5s}") Duration ttl,
+                               @Value("${shareit-gateway.response-cache.maximum-size:10000}") long maximumSize) {
+        this.enabled = enabled;
+        responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, responses, "gateway.response");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String family = family(request);
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            if (HttpStatus.valueOf(response.getStatus()).is2xxSuccessful()) invalidate(family);
+            return;
+        }
+
+        String key = key(family, request);
+        long generation = generation(family).get();
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached != null && cached.getGeneration() == generation) {
+            writeCached(cached, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        if (wrapper.getStatus() != HttpStatus.OK.value()) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        byte[] body = wrapper.getContentAsByteArray();
+        CachedResponse fresh = new CachedResponse(generation, etag(body), headers(wrapper), body);
+        if (generation(family).get() == generation) responses.put(key, fresh);
+        wrapper.setHeader(HttpHeaders.ETAG, fresh.getEtag());
+        if (matches(request, fresh.getEtag())) {
+            wrapper.resetBuffer();
+            wrapper.setStatus(HttpStatus.NOT_MODIFIED.value());
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void invalidate(String family) {
+        AFFECTED_FAMILIES.getOrDefault(family, Set.of(family)).forEach(name -> generation(name).incrementAndGet());
+    }
+
+    private AtomicLong generation(String family) {
+        return generations.computeIfAbsent(family, name -> new AtomicLong());
+    }
+
+    private static String family(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+
+    private static String key(String family, HttpServletRequest request) {
+        String query = request.getQueryString();
+        return family + "|" + request.getRequestURI() + (query == null ? "" : "?" + query) +
+                "|" + request.getHeader(USER_ID_HEADER);
+    }
+
+    private static String etag(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    private static Map<String, List<String>> headers(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                headers.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private static boolean matches(HttpServletRequest request, String etag) {
+        for (String header : Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH))) {
+            for (String candidate : header.split(",")) {
+                String value = candidate.trim();
+                if (value.startsWith("W/")) value = value.substring(2);
+                if (value.equals("*") || value.equals(etag)) return true;
+            }
+        }
+        return false;
+    }
+
+    private static void writeCached(CachedResponse cached, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cached.getEtag());
+        if (matches(request, cached.getEtag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        cached.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentLength(cached.getBody().length);
+        response.getOutputStream().write(cached.getBody());
+    }
+}
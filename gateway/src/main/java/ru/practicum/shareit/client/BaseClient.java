@@ -1,6 +1,5 @@
 package ru.practicum.shareit.client;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -11,24 +10,46 @@ import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+public class BaseClient implements ServerClient<ResponseEntity<Object>> {
+    private static final Set<String> SKIPPED_RESPONSE_HEADERS = Set.of(
+            "connection",
+            "keep-alive",
+            "transfer-encoding",
+            "content-length",
+            "date"
+    );
 
-@RequiredArgsConstructor
-public class BaseClient {
     private final RestTemplate restTemplate;
+    private final ResiliencePolicy resilience;
+
+    public BaseClient(RestTemplate restTemplate) {
+        this(restTemplate, ResiliencePolicy.ofDefaults("default"));
+    }
+
+    public BaseClient(RestTemplate restTemplate, ResiliencePolicy resilience) {
+        this.restTemplate = restTemplate;
+        this.resilience = resilience;
+    }
 
-    protected ResponseEntity<Object> get(String path, Integer userId, Map<String, Object> parameters) {
+    @Override
+    public ResponseEntity<Object> get(String path, Integer userId, Map<String, Object> parameters) {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, Integer userId, T body) {
+    @Override
+    public <T> ResponseEntity<Object> post(String path, Integer userId, T body) {
         return makeAndSendRequest(HttpMethod.POST, path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, Integer userId, Map<String, Object> parameters, T body) {
+    @Override
+    public <T> ResponseEntity<Object> patch(String path, Integer userId, Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
     }
 
-    protected ResponseEntity<Object> delete(String path, Integer userId) {
+    @Override
+    public ResponseEntity<Object> delete(String path, Integer userId) {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, null, null);
     }
 
@@ -38,23 +59,35 @@ public class BaseClient {
             Integer userId,
             Map<String, Object> parameters,
             T body
+    ) {
+        return resilience.execute(method, () -> exchange(method, path, userId, parameters, body));
+    }
+
+    private <T> ResponseEntity<Object> exchange(
+            HttpMethod method,
+            String path,
+            Integer userId,
+            Map<String, Object> parameters,
+            T body
     ) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
 
-        ResponseEntity<Object> shareitServerResponse;
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
             if (parameters != null) {
-                shareitServerResponse = restTemplate.exchange(path, method, requestEntity, Object.class, parameters);
+                shareitServerResponse = restTemplate.exchange(path, method, requestEntity, byte[].class, parameters);
             } else {
-                shareitServerResponse = restTemplate.exchange(path, method, requestEntity, Object.class);
+                shareitServerResponse = restTemplate.exchange(path, method, requestEntity, byte[].class);
             }
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return ResponseEntity.status(e.getStatusCode())
+                    .headers(forwardedHeaders(e.getResponseHeaders()))
+                    .body(e.getResponseBodyAsByteArray());
         }
         return prepareGatewayResponse(shareitServerResponse);
     }
 
-    private HttpHeaders defaultHeaders(Integer userId) {
+    static HttpHeaders defaultHeaders(Integer userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
@@ -62,12 +95,18 @@ public class BaseClient {
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
+    private static HttpHeaders forwardedHeaders(HttpHeaders serverHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        if (serverHeaders == null) return headers;
+        serverHeaders.forEach((name, values) -> {
+            if (!SKIPPED_RESPONSE_HEADERS.contains(name.toLowerCase())) headers.addAll(name, values);
+        });
+        return headers;
+    }
 
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+    static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<byte[]> response) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode())
+                .headers(forwardedHeaders(response.getHeaders()));
 
         if (response.hasBody()) {
             return responseBuilder.body(response.getBody());
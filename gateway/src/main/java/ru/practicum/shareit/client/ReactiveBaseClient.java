@@ -0,0 +1,61 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public class ReactiveBaseClient implements ServerClient<Mono<ResponseEntity<Object>>> {
+    private final WebClient webClient;
+    private final ResiliencePolicy resilience;
+
+    public ReactiveBaseClient(WebClient webClient, ResiliencePolicy resilience) {
+        this.webClient = webClient;
+        this.resilience = resilience;
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> get(String path, Integer userId, Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<Object>> post(String path, Integer userId, T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, null, body);
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<Object>> patch(
+            String path,
+            Integer userId,
+            Map<String, Object> parameters,
+            T body
+    ) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> delete(String path, Integer userId) {
+        return makeAndSendRequest(HttpMethod.DELETE, path, userId, null, null);
+    }
+
+    private <T> Mono<ResponseEntity<Object>> makeAndSendRequest(
+            HttpMethod method,
+            String path,
+            Integer userId,
+            Map<String, Object> parameters,
+            T body
+    ) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(headers -> headers.addAll(BaseClient.defaultHeaders(userId)));
+        WebClient.RequestHeadersSpec<?> requestWithBody = body != null ? request.bodyValue(body) : request;
+        return resilience.decorate(
+                method,
+                requestWithBody.exchangeToMono(response -> response.toEntity(byte[].class))
+                        .map(BaseClient::prepareGatewayResponse)
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "shareit-gateway.client.reactive.enabled", havingValue = "true")
+@Slf4j
+public class ReactiveClientConfiguration {
+    public ReactiveClientConfiguration(@Value("${shareit-gateway.response-cache.enabled:false}") boolean responseCache) {
+        if (responseCache) {
+            log.warn("Кэш ответов поддерживается только в режиме сервлетов и в реактивном режиме не используется");
+        }
+    }
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider shareitServerConnectionProvider(
+            @Value("${shareit-gateway.client.reactive.max-connections:500}") int maxConnections,
+            @Value("${shareit-gateway.client.reactive.pending-acquire-max-count:10000}") int pendingAcquireMaxCount,
+            @Value("${shareit-gateway.client.reactive.pending-acquire-timeout:30s}") Duration pendingAcquireTimeout,
+            @Value("${shareit-gateway.client.reactive.max-idle-time:30s}") Duration maxIdleTime
+    ) {
+        return ConnectionProvider.builder("shareit-server")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpConnector shareitServerConnector(
+            ConnectionProvider shareitServerConnectionProvider,
+            @Value("${shareit-gateway.client.reactive.response-timeout:30s}") Duration responseTimeout
+    ) {
+        return new ReactorClientHttpConnector(
+                HttpClient.create(shareitServerConnectionProvider).responseTimeout(responseTimeout)
+        );
+    }
+}
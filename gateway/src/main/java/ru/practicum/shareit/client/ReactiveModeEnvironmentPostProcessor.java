@@ -0,0 +1,17 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+public class ReactiveModeEnvironmentPostProcessor implements EnvironmentPostProcessor {
+    private static final String REACTIVE_ENABLED = "shareit-gateway.client.reactive.enabled";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.getProperty(REACTIVE_ENABLED, Boolean.class, false)) {
+            application.setWebApplicationType(WebApplicationType.REACTIVE);
+        }
+    }
+}
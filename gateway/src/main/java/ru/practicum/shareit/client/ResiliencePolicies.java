@@ -0,0 +1,91 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Component
+public class ResiliencePolicies {
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final RetryRegistry retryRegistry;
+    private final boolean reactive;
+    private final Map<String, Integer> maxConcurrentCalls;
+
+    @Autowired
+    public ResiliencePolicies(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            RetryRegistry retryRegistry,
+            @Value("${shareit-gateway.client.reactive.enabled:false}") boolean reactive,
+            @Value("${shareit-gateway.client.pool.max-total:200}") int poolMaxTotal,
+            @Value("${shareit-gateway.client.pool.max-per-route:180}") int poolMaxPerRoute,
+            @Value("${shareit-gateway.client.reactive.max-connections:500}") int reactiveMaxConnections,
+            @Value("${shareit-gateway.client.bulkhead.items.max-concurrent-calls:60}") int itemsMaxCalls,
+            @Value("${shareit-gateway.client.bulkhead.bookings.max-concurrent-calls:60}") int bookingsMaxCalls,
+            @Value("${shareit-gateway.client.bulkhead.users.max-concurrent-calls:30}") int usersMaxCalls,
+            @Value("${shareit-gateway.client.bulkhead.requests.max-concurrent-calls:30}") int requestsMaxCalls
+    ) {
+        this(
+                circuitBreakerRegistry,
+                bulkheadRegistry,
+                retryRegistry,
+                reactive,
+                reactive ? reactiveMaxConnections : Math.min(poolMaxTotal, poolMaxPerRoute),
+                Map.of(
+                        "items", itemsMaxCalls,
+                        "bookings", bookingsMaxCalls,
+                        "users", usersMaxCalls,
+                        "requests", requestsMaxCalls
+                )
+        );
+    }
+
+    public ResiliencePolicies(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            RetryRegistry retryRegistry,
+            boolean reactive,
+            int maxConnections,
+            Map<String, Integer> maxConcurrentCalls
+    ) {
+        int totalConcurrentCalls = maxConcurrentCalls.values().stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+        if (totalConcurrentCalls > maxConnections) {
+            throw new IllegalStateException("Сумма лимитов одновременных запросов " + maxConcurrentCalls
+                    + " превышает число соединений с сервером " + maxConnections);
+        }
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.retryRegistry = retryRegistry;
+        this.reactive = reactive;
+        this.maxConcurrentCalls = Map.copyOf(maxConcurrentCalls);
+    }
+
+    public ResiliencePolicy get(String family) {
+        return new ResiliencePolicy(
+                circuitBreakerRegistry.circuitBreaker(family),
+                bulkheadRegistry.bulkhead(family, () -> bulkheadConfig(family)),
+                retryRegistry.retry(family)
+        );
+    }
+
+    private BulkheadConfig bulkheadConfig(String family) {
+        Integer familyMaxConcurrentCalls = maxConcurrentCalls.get(family);
+        if (familyMaxConcurrentCalls == null) {
+            throw new IllegalStateException("Не задан лимит одновременных запросов для группы " + family);
+        }
+        BulkheadConfig.Builder config = BulkheadConfig.from(bulkheadRegistry.getDefaultConfig())
+                .maxConcurrentCalls(familyMaxConcurrentCalls);
+        if (reactive) config.maxWaitDuration(Duration.ZERO);
+        return config.build();
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import lombok.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.exception.UpstreamServerErrorException;
+
+import java.util.function.Supplier;
+
+@Value
+public class ResiliencePolicy {
+    CircuitBreaker circuitBreaker;
+    Bulkhead bulkhead;
+    Retry retry;
+
+    public static ResiliencePolicy ofDefaults(String name) {
+        return new ResiliencePolicy(CircuitBreaker.ofDefaults(name), Bulkhead.ofDefaults(name), Retry.ofDefaults(name));
+    }
+
+    public ResponseEntity<Object> execute(HttpMethod method, Supplier<ResponseEntity<Object>> call) {
+        Supplier<ResponseEntity<Object>> guarded = CircuitBreaker.decorateSupplier(
+                circuitBreaker,
+                Bulkhead.decorateSupplier(bulkhead, () -> failOnServerError(call.get()))
+        );
+        Supplier<ResponseEntity<Object>> retried = HttpMethod.GET.equals(method)
+                ? Retry.decorateSupplier(retry, guarded)
+                : guarded;
+        try {
+            return retried.get();
+        } catch (UpstreamServerErrorException e) {
+            return e.getResponse();
+        }
+    }
+
+    public Mono<ResponseEntity<Object>> decorate(HttpMethod method, Mono<ResponseEntity<Object>> call) {
+        Mono<ResponseEntity<Object>> guarded = call
+                .map(ResiliencePolicy::failOnServerError)
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+        Mono<ResponseEntity<Object>> retried = HttpMethod.GET.equals(method)
+                ? guarded.transformDeferred(RetryOperator.of(retry))
+                : guarded;
+        return retried.onErrorResume(UpstreamServerErrorException.class, e -> Mono.just(e.getResponse()));
+    }
+
+    private static ResponseEntity<Object> failOnServerError(ResponseEntity<Object> response) {
+        if (response.getStatusCode().is5xxServerError()) throw new UpstreamServerErrorException(response);
+        return response;
+    }
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.client;
+
+import java.util.Map;
+
+public interface ServerClient<R> {
+    R get(String path, Integer userId, Map<String, Object> parameters);
+
+    <T> R post(String path, Integer userId, T body);
+
+    <T> R patch(String path, Integer userId, Map<String, Object> parameters, T body);
+
+    R delete(String path, Integer userId);
+}
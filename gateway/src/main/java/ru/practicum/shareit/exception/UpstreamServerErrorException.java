@@ -0,0 +1,14 @@
+package ru.practicum.shareit.exception;
+
+import lombok.Getter;
+import org.springframework.http.ResponseEntity;
+
+@Getter
+public class UpstreamServerErrorException extends RuntimeException {
+    private final transient ResponseEntity<Object> response;
+
+    public UpstreamServerErrorException(ResponseEntity<Object> response) {
+        super("Сервер вернул ошибку " + response.getStatusCodeValue(), null, false, false);
+        this.response = response;
+    }
+}
@@ -0,0 +1,96 @@
+package ru.practicum.shareit.item;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.shareit.client.ServerClient;
+import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+public abstract class AbstractItemClient<R> {
+    protected static final String API_PREFIX = "/items";
+
+    private final ServerClient<R> server;
+
+    protected AbstractItemClient(ServerClient<R> server) {
+        this.server = server;
+    }
+
+    public R getById(int userId, int itemId) {
+        log.info("Запрос на просмотр вещи с id={} от пользователя с id={}", itemId, userId);
+        return server.get("/" + itemId, userId, null);
+    }
+
+    public R getItemsByUserId(int userId, int from, int size, String after) {
+        log.info("Запрос на просмотр своих вещей от пользователя с id={}", userId);
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "from", from,
+                "size", size
+        ));
+        if (after == null) return server.get("?from={from}&size={size}", userId, parameters);
+        parameters.put("after", after);
+        return server.get("?from={from}&size={size}&after={after}", userId, parameters);
+    }
+
+    public R addItem(int userId, ItemDto itemDto) {
+        log.info("Запрос на добавление вещи {} от пользователя с id={}", itemDto, userId);
+        return server.post("", userId, itemDto);
+    }
+
+    public R addItems(int userId, List<ItemDto> itemDtos) {
+        log.info("Запрос на пакетное добавление {} вещей от пользователя с id={}", itemDtos.size(), userId);
+        return server.post("/batch", userId, itemDtos);
+    }
+
+    public R updateItem(int userId, int itemId, ItemDto itemDto) {
+        log.info("Запрос на обновление вещи с id={} от пользователя с id={}", itemId, userId);
+        return server.patch("/" + itemId, userId, null, itemDto);
+    }
+
+    public R deleteItem(int userId, int itemId) {
+        log.info("Запрос на удаление вещи с id={} от пользователя с id={}", itemId, userId);
+        return server.delete("/" + itemId, userId);
+    }
+
+    public R getItemAvailability(int userId, int itemId, LocalDateTime from, LocalDateTime to) {
+        log.info("Запрос занятости вещи с id={} с {} по {} от пользователя с id={}", itemId, from, to, userId);
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to
+        );
+        return server.get("/" + itemId + "/availability?from={from}&to={to}", userId, parameters);
+    }
+
+    public R findItems(int userId, String text, int from, int size) {
+        log.info("Запрос на поиск вещей от пользователя с id={} по тексту '{}'", userId, text);
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "from", from,
+                "size", size
+        );
+        return server.get("/search?text={text}&from={from}&size={size}", userId, parameters);
+    }
+
+    public R addComment(int userId, int itemId, CommentDto commentDto) {
+        log.info(
+                "Запрос на добавление комментария {} к вещи с id={} от пользователя с id={}",
+                commentDto,
+                itemId,
+                userId
+        );
+        return server.post("/" + itemId + "/comment", userId, commentDto);
+    }
+
+    public R getComments(int userId, int itemId, int from, int size) {
+        log.info("Запрос на просмотр комментариев к вещи с id={} от пользователя с id={}", itemId, userId);
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return server.get("/" + itemId + "/comments?from={from}&size={size}", userId, parameters);
+    }
+}
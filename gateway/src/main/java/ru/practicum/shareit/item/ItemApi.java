@@ -0,0 +1,91 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequestMapping("/items")
+public interface ItemApi<R> {
+    String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    @GetMapping("/{itemId}")
+    R getItemById(@RequestHeader(USER_ID_HEADER) int userId, @PathVariable int itemId);
+
+    @GetMapping
+    R getItemsByUserId(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+            @RequestParam(defaultValue = "10") @Positive int size,
+            @RequestParam(required = false)
+            @Pattern(regexp = "[A-Za-z0-9_-]+", message = "Некорректный курсор") String after
+    );
+
+    @PostMapping
+    R addItem(@RequestHeader(USER_ID_HEADER) int userId, @RequestBody @Valid ItemDto itemDto);
+
+    @PostMapping("/batch")
+    R addItems(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestBody
+            @Size(min = 1, max = 10000, message = "Пакет должен содержать от 1 до 10000 вещей")
+            List<ItemDto> itemDtos
+    );
+
+    @PatchMapping("/{itemId}")
+    R updateItem(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int itemId,
+            @RequestBody ItemDto itemDto
+    );
+
+    @DeleteMapping("/{itemId}")
+    R deleteItem(@RequestHeader(USER_ID_HEADER) int userId, @PathVariable int itemId);
+
+    @GetMapping("/{itemId}/availability")
+    R getItemAvailability(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int itemId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    );
+
+    @GetMapping("/search")
+    R findItems(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestParam String text,
+            @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+            @RequestParam(defaultValue = "10") @Positive int size
+    );
+
+    @PostMapping("/{itemId}/comment")
+    R addComment(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int itemId,
+            @RequestBody @Valid CommentDto commentDto
+    );
+
+    @GetMapping("/{itemId}/comments")
+    R getComments(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int itemId,
+            @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+            @RequestParam(defaultValue = "10") @Positive int size
+    );
+}
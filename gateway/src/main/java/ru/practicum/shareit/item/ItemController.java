@@ -1,78 +1,70 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PatchMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.item.model.dto.CommentDto;
 import ru.practicum.shareit.item.model.dto.ItemDto;
 
-import javax.validation.Valid;
-import javax.validation.constraints.Positive;
-import javax.validation.constraints.PositiveOrZero;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
-@RequestMapping("/items")
+@ConditionalOnProperty(name = "shareit-gateway.client.reactive.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Validated
-public class ItemController {
+public class ItemController implements ItemApi<ResponseEntity<Object>> {
     private final ItemClient itemClient;
 
-    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
-
-    @GetMapping("/{itemId}")
-    public ResponseEntity<Object> getItemById(@RequestHeader(USER_ID_HEADER) int userId, @PathVariable int itemId) {
+    @Override
+    public ResponseEntity<Object> getItemById(int userId, int itemId) {
         return itemClient.getById(userId, itemId);
     }
 
-    @GetMapping
-    public ResponseEntity<Object> getItemsByUserId(
-            @RequestHeader(USER_ID_HEADER) int userId,
-            @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-            @RequestParam(defaultValue = "10") @Positive int size
-    ) {
-        return itemClient.getItemsByUserId(userId, from, size);
+    @Override
+    public ResponseEntity<Object> getItemsByUserId(int userId, int from, int size, String after) {
+        return itemClient.getItemsByUserId(userId, from, size, after);
     }
 
-    @PostMapping
-    public ResponseEntity<Object> addItem(@RequestHeader(USER_ID_HEADER) int userId, @RequestBody @Valid ItemDto itemDto) {
+    @Override
+    public ResponseEntity<Object> addItem(int userId, ItemDto itemDto) {
         return itemClient.addItem(userId, itemDto);
     }
 
-    @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> updateItem(@RequestHeader(USER_ID_HEADER) int userId,
-                           @PathVariable int itemId, @RequestBody ItemDto itemDto) {
+    @Override
+    public ResponseEntity<Object> addItems(int userId, List<ItemDto> itemDtos) {
+        return itemClient.addItems(userId, itemDtos);
+    }
+
+    @Override
+    public ResponseEntity<Object> updateItem(int userId, int itemId, ItemDto itemDto) {
         return itemClient.updateItem(userId, itemId, itemDto);
     }
 
-    @DeleteMapping("/{itemId}")
-    public ResponseEntity<Object> deleteItem(@RequestHeader(USER_ID_HEADER) int userId, @PathVariable int itemId) {
+    @Override
+    public ResponseEntity<Object> deleteItem(int userId, int itemId) {
         return itemClient.deleteItem(userId, itemId);
     }
 
-    @GetMapping("/search")
-    public ResponseEntity<Object> findItems(
-            @RequestHeader(USER_ID_HEADER) int userId,
-            @RequestParam String text,
-            @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-            @RequestParam(defaultValue = "10") @Positive int size
-    ) {
+    @Override
+    public ResponseEntity<Object> getItemAvailability(int userId, int itemId, LocalDateTime from, LocalDateTime to) {
+        return itemClient.getItemAvailability(userId, itemId, from, to);
+    }
+
+    @Override
+    public ResponseEntity<Object> findItems(int userId, String text, int from, int size) {
         return itemClient.findItems(userId, text, from, size);
     }
 
-    @PostMapping("/{itemId}/comment")
-    public ResponseEntity<Object> addComment(@RequestHeader(USER_ID_HEADER) int userId,
-                                 @PathVariable int itemId,
-                                 @RequestBody @Valid CommentDto commentDto) {
+    @Override
+    public ResponseEntity<Object> addComment(int userId, int itemId, CommentDto commentDto) {
         return itemClient.addComment(userId, itemId, commentDto);
     }
-}
\ No newline at end of file
+
+    @Override
+    public ResponseEntity<Object> getComments(int userId, int itemId, int from, int size) {
+        return itemClient.getComments(userId, itemId, from, size);
+    }
+}
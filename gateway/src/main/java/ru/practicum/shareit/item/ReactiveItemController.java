@@ -0,0 +1,76 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@ConditionalOnProperty(name = "shareit-gateway.client.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Validated
+public class ReactiveItemController implements ItemApi<Mono<ResponseEntity<Object>>> {
+    private final ReactiveItemClient itemClient;
+
+    @Override
+    public Mono<ResponseEntity<Object>> getItemById(int userId, int itemId) {
+        return itemClient.getById(userId, itemId);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getItemsByUserId(int userId, int from, int size, String after) {
+        return itemClient.getItemsByUserId(userId, from, size, after);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> addItem(int userId, ItemDto itemDto) {
+        return itemClient.addItem(userId, itemDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> addItems(int userId, List<ItemDto> itemDtos) {
+        return itemClient.addItems(userId, itemDtos);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> updateItem(int userId, int itemId, ItemDto itemDto) {
+        return itemClient.updateItem(userId, itemId, itemDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> deleteItem(int userId, int itemId) {
+        return itemClient.deleteItem(userId, itemId);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getItemAvailability(
+            int userId,
+            int itemId,
+            LocalDateTime from,
+            LocalDateTime to
+    ) {
+        return itemClient.getItemAvailability(userId, itemId, from, to);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> findItems(int userId, String text, int from, int size) {
+        return itemClient.findItems(userId, text, from, size);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> addComment(int userId, int itemId, CommentDto commentDto) {
+        return itemClient.addComment(userId, itemId, commentDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getComments(int userId, int itemId, int from, int size) {
+        return itemClient.getComments(userId, itemId, from, size);
+    }
+}
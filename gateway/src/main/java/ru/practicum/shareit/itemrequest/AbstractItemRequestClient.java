@@ -0,0 +1,45 @@
+package ru.practicum.shareit.itemrequest;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.shareit.client.ServerClient;
+import ru.practicum.shareit.itemrequest.model.dto.ItemRequestDto;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+public abstract class AbstractItemRequestClient<R> {
+    protected static final String API_PREFIX = "/requests";
+
+    private final ServerClient<R> server;
+
+    protected AbstractItemRequestClient(ServerClient<R> server) {
+        this.server = server;
+    }
+
+    public R addItemRequest(int userId, ItemRequestDto itemRequestDto) {
+        log.info("Запрос на добавление запроса на вещь {} от пользователя с id={}", itemRequestDto, userId);
+        return server.post("", userId, itemRequestDto);
+    }
+
+    public R getItemRequestsByUserId(int userId) {
+        log.info("Запрос на просмотр своих запросов на вещи от пользователя с id={}", userId);
+        return server.get("", userId, null);
+    }
+
+    public R getAllItemRequests(int userId, int from, int size, String after) {
+        log.info("Запрос на просмотр чужих запросов на вещи от пользователя с id={}", userId);
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "from", from,
+                "size", size
+        ));
+        if (after == null) return server.get("/all?from={from}&size={size}", userId, parameters);
+        parameters.put("after", after);
+        return server.get("/all?from={from}&size={size}&after={after}", userId, parameters);
+    }
+
+    public R getById(int userId, int requestId) {
+        log.info("Запрос на просмотр запроса на вещь с id={} от пользователя с id={}", requestId, userId);
+        return server.get("/" + requestId, userId, null);
+    }
+}
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.itemrequest;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import ru.practicum.shareit.itemrequest.model.dto.ItemRequestDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@RequestMapping(path = "/requests")
+public interface ItemRequestApi<R> {
+    String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    @PostMapping
+    R addItemRequest(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @Valid @RequestBody ItemRequestDto itemRequestDto
+    );
+
+    @GetMapping
+    R getItemRequestsByUserId(@RequestHeader(USER_ID_HEADER) int userId);
+
+    @GetMapping(path = "/all")
+    R getAllItemRequests(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+            @RequestParam(defaultValue = "10") @Positive int size,
+            @RequestParam(required = false)
+            @Pattern(regexp = "[A-Za-z0-9_-]+", message = "Некорректный курсор") String after
+    );
+
+    @GetMapping("/{requestId}")
+    R getItemRequestById(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int requestId
+    );
+}
@@ -1,58 +1,36 @@
 package ru.practicum.shareit.itemrequest;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.itemrequest.model.dto.ItemRequestDto;
 
-import javax.validation.Valid;
-import javax.validation.constraints.Positive;
-import javax.validation.constraints.PositiveOrZero;
-
 @RestController
-@RequestMapping(path = "/requests")
+@ConditionalOnProperty(name = "shareit-gateway.client.reactive.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Validated
-public class ItemRequestController {
+public class ItemRequestController implements ItemRequestApi<ResponseEntity<Object>> {
     private final ItemRequestClient itemRequestClient;
 
-    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
-
-    @PostMapping
-    public ResponseEntity<Object> addItemRequest(
-            @RequestHeader(USER_ID_HEADER) int userId,
-            @Valid @RequestBody ItemRequestDto itemRequestDto
-    ) {
+    @Override
+    public ResponseEntity<Object> addItemRequest(int userId, ItemRequestDto itemRequestDto) {
         return itemRequestClient.addItemRequest(userId, itemRequestDto);
     }
 
-    @GetMapping
-    public ResponseEntity<Object> getItemRequestsByUserId(@RequestHeader(USER_ID_HEADER) int userId) {
+    @Override
+    public ResponseEntity<Object> getItemRequestsByUserId(int userId) {
         return itemRequestClient.getItemRequestsByUserId(userId);
     }
 
-    @GetMapping(path = "/all")
-    public ResponseEntity<Object> getAllItemRequests(
-            @RequestHeader(USER_ID_HEADER) int userId,
-            @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-            @RequestParam(defaultValue = "10") @Positive int size
-    ) {
-        return itemRequestClient.getAllItemRequests(userId, from, size);
+    @Override
+    public ResponseEntity<Object> getAllItemRequests(int userId, int from, int size, String after) {
+        return itemRequestClient.getAllItemRequests(userId, from, size, after);
     }
 
-    @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getItemRequestById(
-            @RequestHeader(USER_ID_HEADER) int userId,
-            @PathVariable int requestId
-    ) {
+    @Override
+    public ResponseEntity<Object> getItemRequestById(int userId, int requestId) {
         return itemRequestClient.getById(userId, requestId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.itemrequest;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.client.ResiliencePolicies;
+
+@Service
+@ConditionalOnProperty(name = "shareit-gateway.client.reactive.enabled", havingValue = "true")
+public class ReactiveItemRequestClient extends AbstractItemRequestClient<Mono<ResponseEntity<Object>>> {
+    @Autowired
+    public ReactiveItemRequestClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            WebClient.Builder webClientBuilder,
+            ResiliencePolicies resiliencePolicies
+    ) {
+        super(new ReactiveBaseClient(
+                webClientBuilder
+                        .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                        .build(),
+                resiliencePolicies.get("requests")
+        ));
+    }
+}
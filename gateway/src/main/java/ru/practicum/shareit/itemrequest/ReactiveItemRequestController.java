@@ -0,0 +1,37 @@
+package ru.practicum.shareit.itemrequest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.itemrequest.model.dto.ItemRequestDto;
+
+@RestController
+@ConditionalOnProperty(name = "shareit-gateway.client.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Validated
+public class ReactiveItemRequestController implements ItemRequestApi<Mono<ResponseEntity<Object>>> {
+    private final ReactiveItemRequestClient itemRequestClient;
+
+    @Override
+    public Mono<ResponseEntity<Object>> addItemRequest(int userId, ItemRequestDto itemRequestDto) {
+        return itemRequestClient.addItemRequest(userId, itemRequestDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getItemRequestsByUserId(int userId) {
+        return itemRequestClient.getItemRequestsByUserId(userId);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getAllItemRequests(int userId, int from, int size, String after) {
+        return itemRequestClient.getAllItemRequests(userId, from, size, after);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getItemRequestById(int userId, int requestId) {
+        return itemRequestClient.getById(userId, requestId);
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.user;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.shareit.client.ServerClient;
+import ru.practicum.shareit.user.model.dto.UserDto;
+
+@Slf4j
+public abstract class AbstractUserClient<R> {
+    protected static final String API_PREFIX = "/users";
+
+    private final ServerClient<R> server;
+
+    protected AbstractUserClient(ServerClient<R> server) {
+        this.server = server;
+    }
+
+    public R getById(int userId) {
+        log.info("Запрос на просмотр пользователя с id={}", userId);
+        return server.get("/" + userId, null, null);
+    }
+
+    public R getUsers() {
+        log.info("Запрос на просмотр всех пользователей");
+        return server.get("", null, null);
+    }
+
+    public R addUser(UserDto userDto) {
+        log.info("Запрос на добавление пользователя {}", userDto);
+        return server.post("", null, userDto);
+    }
+
+    public R updateUser(int userId, UserDto userDto) {
+        log.info("Запрос на обновление пользователя с id={}", userId);
+        return server.patch("/" + userId, null, null, userDto);
+    }
+
+    public R deleteUser(int userId) {
+        log.info("Запрос на удаление пользователя с id={}", userId);
+        return server.delete("/" + userId, null);
+    }
+}
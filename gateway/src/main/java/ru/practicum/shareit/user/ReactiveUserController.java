@@ -0,0 +1,40 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.model.dto.UserDto;
+
+@RestController
+@ConditionalOnProperty(name = "shareit-gateway.client.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveUserController implements UserApi<Mono<ResponseEntity<Object>>> {
+    private final ReactiveUserClient userClient;
+
+    @Override
+    public Mono<ResponseEntity<Object>> getUserById(int userId) {
+        return userClient.getById(userId);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getUsers() {
+        return userClient.getUsers();
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> addUser(UserDto userDto) {
+        return userClient.addUser(userDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> updateUser(int userId, UserDto userDto) {
+        return userClient.updateUser(userId, userDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> deleteUser(int userId) {
+        return userClient.deleteUser(userId);
+    }
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import ru.practicum.shareit.user.model.dto.UserDto;
+
+import javax.validation.Valid;
+
+@RequestMapping("/users")
+public interface UserApi<R> {
+    @GetMapping("/{userId}")
+    R getUserById(@PathVariable int userId);
+
+    @GetMapping
+    R getUsers();
+
+    @PostMapping
+    R addUser(@Valid @RequestBody UserDto userDto);
+
+    @PatchMapping("/{userId}")
+    R updateUser(@PathVariable int userId, @RequestBody UserDto userDto);
+
+    @DeleteMapping("/{userId}")
+    R deleteUser(@PathVariable int userId);
+}
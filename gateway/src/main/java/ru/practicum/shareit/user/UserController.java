@@ -1,47 +1,39 @@
 package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PatchMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.user.model.dto.UserDto;
 
-import javax.validation.Valid;
-
 @RestController
-@RequestMapping("/users")
+@ConditionalOnProperty(name = "shareit-gateway.client.reactive.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
-public class UserController {
+public class UserController implements UserApi<ResponseEntity<Object>> {
     private final UserClient userClient;
 
-    @GetMapping("/{userId}")
-    public ResponseEntity<Object> getUserById(@PathVariable int userId) {
+    @Override
+    public ResponseEntity<Object> getUserById(int userId) {
         return userClient.getById(userId);
     }
 
-    @GetMapping
+    @Override
     public ResponseEntity<Object> getUsers() {
         return userClient.getUsers();
     }
 
-    @PostMapping
-    public ResponseEntity<Object> addUser(@Valid @RequestBody UserDto userDto) {
+    @Override
+    public ResponseEntity<Object> addUser(UserDto userDto) {
         return userClient.addUser(userDto);
     }
 
-    @PatchMapping("/{userId}")
-    public ResponseEntity<Object> updateUser(@PathVariable int userId, @RequestBody UserDto userDto) {
+    @Override
+    public ResponseEntity<Object> updateUser(int userId, UserDto userDto) {
         return userClient.updateUser(userId, userDto);
     }
 
-    @DeleteMapping("/{userId}")
-    public ResponseEntity<Object> deleteUser(@PathVariable int userId) {
+    @Override
+    public ResponseEntity<Object> deleteUser(int userId) {
         return userClient.deleteUser(userId);
     }
-}
\ No newline at end of file
+}
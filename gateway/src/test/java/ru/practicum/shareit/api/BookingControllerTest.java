@@ -22,6 +22,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -194,7 +195,7 @@ public class BookingControllerTest {
     @Test
     public void shouldGetUserBookings() throws Exception {
         Mockito
-                .when(bookingClient.getUserBookings(anyInt(), anyString(), anyInt(), anyInt()))
+                .when(bookingClient.getUserBookings(anyInt(), anyString(), anyInt(), anyInt(), any()))
                 .thenReturn(response);
 
         mvc.perform(get("/bookings")
@@ -207,7 +208,7 @@ public class BookingControllerTest {
     @Test
     public void shouldGetOwnerBookings() throws Exception {
         Mockito
-                .when(bookingClient.getOwnerBookings(anyInt(), anyString(), anyInt(), anyInt()))
+                .when(bookingClient.getOwnerBookings(anyInt(), anyString(), anyInt(), anyInt(), any()))
                 .thenReturn(response);
 
         mvc.perform(get("/bookings/owner")
@@ -216,4 +217,28 @@ public class BookingControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldGetUserBookingsAfterCursor() throws Exception {
+        Mockito
+                .when(bookingClient.getUserBookings(anyInt(), anyString(), anyInt(), anyInt(), eq("cursor")))
+                .thenReturn(response);
+
+        mvc.perform(get("/bookings")
+                        .param("after", "cursor")
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void shouldNotGetUserBookingsWhenBlankCursor() throws Exception {
+        mvc.perform(get("/bookings")
+                        .param("after", " ")
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+}
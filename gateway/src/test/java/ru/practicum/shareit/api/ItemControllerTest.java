@@ -1,6 +1,8 @@
 package ru.practicum.shareit.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -20,9 +22,11 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -68,7 +72,7 @@ public class ItemControllerTest {
     @Test
     public void shouldGetItemsByUserId() throws Exception {
         Mockito
-                .when(itemClient.getItemsByUserId(anyInt(), anyInt(), anyInt()))
+                .when(itemClient.getItemsByUserId(anyInt(), anyInt(), anyInt(), any()))
                 .thenReturn(response);
 
         mvc.perform(get("/items")
@@ -93,6 +97,50 @@ public class ItemControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void shouldAddItems() throws Exception {
+        Mockito
+                .when(itemClient.addItems(anyInt(), anyList()))
+                .thenReturn(response);
+
+        mvc.perform(post("/items/batch")
+                        .content(mapper.writeValueAsString(List.of(itemDto, itemDto)))
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void shouldPassInvalidRowsToServerWhenAddItems() throws Exception {
+        ItemDto invalidItemDto = new ItemDto(null, "item2", "", true, null, null, null, null);
+        Mockito
+                .when(itemClient.addItems(anyInt(), anyList()))
+                .thenReturn(response);
+
+        mvc.perform(post("/items/batch")
+                        .content(mapper.writeValueAsString(List.of(itemDto, invalidItemDto)))
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        Mockito.verify(itemClient).addItems(1, List.of(itemDto, invalidItemDto));
+    }
+
+    @Test
+    public void shouldNotAddItemsWhenBatchEmpty() throws Exception {
+        mvc.perform(post("/items/batch")
+                        .content("[]")
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("addItems.itemDtos: Пакет должен содержать от 1 до 10000 вещей"));
+    }
+
     @Test
     public void shouldNotAddItemWhenBlankName() throws Exception {
         mvc.perform(post("/items")
@@ -189,6 +237,37 @@ public class ItemControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void shouldGetItemAvailability() throws Exception {
+        Mockito
+                .when(itemClient.getItemAvailability(anyInt(), anyInt(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(response);
+
+        mvc.perform(get("/items/1/availability")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("from", "2030-01-01T10:00:00")
+                        .param("to", "2030-01-02T10:00:00")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void shouldFailFastWhenCircuitOpen() throws Exception {
+        Mockito
+                .when(itemClient.getById(anyInt(), anyInt()))
+                .thenThrow(CallNotPermittedException.createCallNotPermittedException(
+                        CircuitBreaker.ofDefaults("items")
+                ));
+
+        mvc.perform(get("/items/2")
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("Сервис временно недоступен, повторите запрос позже"));
+    }
+
     @Test
     public void shouldFindItems() throws Exception {
         Mockito
@@ -242,4 +321,31 @@ public class ItemControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.error").value("Текст комментария не может быть пустым"));
     }
+
+    @Test
+    public void shouldGetComments() throws Exception {
+        Mockito
+                .when(itemClient.getComments(1, 1, 10, 5))
+                .thenReturn(response);
+
+        mvc.perform(get("/items/1/comments")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("from", "10")
+                        .param("size", "5")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void shouldNotGetCommentsWhenSizeInvalid() throws Exception {
+        mvc.perform(get("/items/1/comments")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("size", "0")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(itemClient);
+    }
 }
@@ -94,7 +94,7 @@ public class ItemRequestControllerTest {
     @Test
     public void shouldGetAllItemRequests() throws Exception {
         Mockito
-                .when(itemRequestClient.getAllItemRequests(anyInt(), anyInt(), anyInt()))
+                .when(itemRequestClient.getAllItemRequests(anyInt(), anyInt(), anyInt(), any()))
                 .thenReturn(response);
 
         mvc.perform(get("/requests/all")
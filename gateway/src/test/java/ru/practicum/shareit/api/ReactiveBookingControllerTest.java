@@ -0,0 +1,97 @@
+package ru.practicum.shareit.api;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.ReactiveBookingClient;
+import ru.practicum.shareit.booking.ReactiveBookingController;
+import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@WebFluxTest(
+        controllers = ReactiveBookingController.class,
+        properties = "shareit-gateway.client.reactive.enabled=true"
+)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveBookingControllerTest {
+    @MockBean
+    private ReactiveBookingClient bookingClient;
+    private final WebTestClient webClient;
+
+    @Test
+    public void shouldAddBooking() {
+        Mockito
+                .when(bookingClient.addBooking(anyInt(), any(BookingDtoDefault.class)))
+                .thenReturn(Mono.just(new ResponseEntity<>(HttpStatus.OK)));
+
+        webClient.post()
+                .uri("/bookings")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BookingDtoDefault(
+                        1,
+                        LocalDateTime.now().plusDays(1),
+                        LocalDateTime.now().plusDays(2),
+                        1,
+                        null,
+                        null
+                ))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    public void shouldNotAddBookingWhenStartNull() {
+        webClient.post()
+                .uri("/bookings")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BookingDtoDefault(
+                        1,
+                        null,
+                        LocalDateTime.now().plusDays(2),
+                        1,
+                        null,
+                        null
+                ))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Поле start не должно быть null");
+    }
+
+    @Test
+    public void shouldNotGetOwnerBookingsWhenZeroSize() {
+        webClient.get()
+                .uri("/bookings/owner?size=0")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void shouldNotGetBookingsWhenUnknownState() {
+        Mockito
+                .when(bookingClient.getUserBookings(anyInt(), anyString(), anyInt(), anyInt(), any()))
+                .thenCallRealMethod();
+
+        webClient.get()
+                .uri("/bookings?state=UNSUPPORTED_STATUS")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Unknown state: UNSUPPORTED_STATUS");
+    }
+}
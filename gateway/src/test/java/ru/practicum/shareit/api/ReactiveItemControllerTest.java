@@ -0,0 +1,96 @@
+package ru.practicum.shareit.api;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.ReactiveItemClient;
+import ru.practicum.shareit.item.ReactiveItemController;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+
+@WebFluxTest(
+        controllers = ReactiveItemController.class,
+        properties = "shareit-gateway.client.reactive.enabled=true"
+)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveItemControllerTest {
+    @MockBean
+    private ReactiveItemClient itemClient;
+    private final WebTestClient webClient;
+
+    @Test
+    public void shouldPassServerResponseThrough() {
+        Mockito
+                .when(itemClient.getById(anyInt(), anyInt()))
+                .thenReturn(Mono.just(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"id\":1}".getBytes(StandardCharsets.UTF_8))));
+
+        webClient.get()
+                .uri("/items/1")
+                .header("X-Sharer-User-Id", "1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("{\"id\":1}");
+    }
+
+    @Test
+    public void shouldNotAddItemWhenBlankName() {
+        webClient.post()
+                .uri("/items")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ItemDto(
+                        1,
+                        "",
+                        "item1 description",
+                        true,
+                        null,
+                        null,
+                        null,
+                        Collections.emptyList()
+                ))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Имя вещи не может быть пустым");
+    }
+
+    @Test
+    public void shouldNotGetItemsWhenNegativeFrom() {
+        webClient.get()
+                .uri("/items?from=-1")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void shouldRejectWhenBulkheadFull() {
+        Mockito
+                .when(itemClient.getById(anyInt(), anyInt()))
+                .thenReturn(Mono.error(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("items"))));
+
+        webClient.get()
+                .uri("/items/1")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+                .expectBody().jsonPath("$.error")
+                .isEqualTo("Слишком много одновременных запросов, повторите запрос позже");
+    }
+}
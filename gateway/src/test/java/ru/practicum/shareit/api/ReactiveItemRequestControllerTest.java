@@ -0,0 +1,66 @@
+package ru.practicum.shareit.api;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.itemrequest.ReactiveItemRequestClient;
+import ru.practicum.shareit.itemrequest.ReactiveItemRequestController;
+import ru.practicum.shareit.itemrequest.model.dto.ItemRequestDto;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+@WebFluxTest(
+        controllers = ReactiveItemRequestController.class,
+        properties = "shareit-gateway.client.reactive.enabled=true"
+)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveItemRequestControllerTest {
+    @MockBean
+    private ReactiveItemRequestClient itemRequestClient;
+    private final WebTestClient webClient;
+
+    @Test
+    public void shouldGetAllItemRequests() {
+        Mockito
+                .when(itemRequestClient.getAllItemRequests(anyInt(), anyInt(), anyInt(), any()))
+                .thenReturn(Mono.just(new ResponseEntity<>(HttpStatus.OK)));
+
+        webClient.get()
+                .uri("/requests/all?from=0&size=10")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    public void shouldNotAddItemRequestWhenBlankDescription() {
+        webClient.post()
+                .uri("/requests")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ItemRequestDto(1, " ", null, Collections.emptyList()))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Описание запроса не может быть пустым");
+    }
+
+    @Test
+    public void shouldNotGetAllItemRequestsWhenInvalidCursor() {
+        webClient.get()
+                .uri("/requests/all?after=a.b")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
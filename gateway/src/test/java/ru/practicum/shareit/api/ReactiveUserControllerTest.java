@@ -0,0 +1,68 @@
+package ru.practicum.shareit.api;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.ReactiveUserClient;
+import ru.practicum.shareit.user.ReactiveUserController;
+import ru.practicum.shareit.user.model.dto.UserDto;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+
+@WebFluxTest(
+        controllers = ReactiveUserController.class,
+        properties = "shareit-gateway.client.reactive.enabled=true"
+)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveUserControllerTest {
+    @MockBean
+    private ReactiveUserClient userClient;
+    private final WebTestClient webClient;
+
+    @Test
+    public void shouldGetUserById() {
+        Mockito
+                .when(userClient.getById(anyInt()))
+                .thenReturn(Mono.just(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"id\":1,\"name\":\"user1\"}".getBytes(StandardCharsets.UTF_8))));
+
+        webClient.get()
+                .uri("/users/1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("{\"id\":1,\"name\":\"user1\"}");
+    }
+
+    @Test
+    public void shouldNotAddUserWhenInvalidEmail() {
+        webClient.post()
+                .uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UserDto(1, "user1", "user1.email.com"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Email пользователя должен быть корректным");
+    }
+
+    @Test
+    public void shouldNotAddUserWhenBlankName() {
+        webClient.post()
+                .uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UserDto(1, "", "user1@email.com"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Имя пользователя не может быть пустым");
+    }
+}
@@ -126,6 +126,10 @@ public class UserControllerTest {
 
     @Test
     public void shouldDeleteUser() throws Exception {
+        Mockito
+                .when(userClient.deleteUser(anyInt()))
+                .thenReturn(response);
+
         mvc.perform(delete("/users/1")
                         .characterEncoding(StandardCharsets.UTF_8)
                         .accept(MediaType.APPLICATION_JSON))
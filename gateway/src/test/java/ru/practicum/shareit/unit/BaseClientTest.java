@@ -0,0 +1,95 @@
+package ru.practicum.shareit.unit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.client.BaseClient;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+public class BaseClientTest {
+    private MockRestServiceServer server;
+    private TestClient client;
+
+    @BeforeEach
+    public void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory("http://server/items"));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        client = new TestClient(restTemplate);
+    }
+
+    @Test
+    public void shouldPassServerBytesThroughUnchanged() {
+        byte[] body = "{ \"id\" : 1, \"name\" : \"\\u0414рель\", \"price\" : 1.50 }"
+                .getBytes(StandardCharsets.UTF_8);
+        server.expect(requestTo("http://server/items/1"))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> response = client.get("/1", 1);
+
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.OK));
+        assertThat(response.getBody(), equalTo(body));
+        assertThat(response.getHeaders().getContentType(), equalTo(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    public void shouldStripHopByHopHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Next-Cursor", "abc");
+        headers.setETag("\"1\"");
+        headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        headers.set(HttpHeaders.CONNECTION, "keep-alive");
+        headers.set("Keep-Alive", "timeout=5");
+        server.expect(requestTo("http://server/items/1"))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON).headers(headers));
+
+        ResponseEntity<Object> response = client.get("/1", 1);
+
+        assertThat(response.getHeaders().getFirst("X-Next-Cursor"), equalTo("abc"));
+        assertThat(response.getHeaders().getETag(), equalTo("\"1\""));
+        assertThat(response.getHeaders().getFirst(HttpHeaders.TRANSFER_ENCODING), nullValue());
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONNECTION), nullValue());
+        assertThat(response.getHeaders().getFirst("Keep-Alive"), nullValue());
+    }
+
+    @Test
+    public void shouldPassServerErrorThrough() {
+        String error = "{\"error\":\"Вещь с id=1 не найдена\"}";
+        server.expect(requestTo("http://server/items/1"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(error.getBytes(StandardCharsets.UTF_8)));
+
+        ResponseEntity<Object> response = client.get("/1", 1);
+
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.NOT_FOUND));
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8), equalTo(error));
+        assertThat(response.getHeaders().getContentType(), equalTo(MediaType.APPLICATION_JSON));
+    }
+
+    private static class TestClient extends BaseClient {
+        TestClient(RestTemplate restTemplate) {
+            super(restTemplate);
+        }
+
+        ResponseEntity<Object> get(String path, int userId) {
+            return get(path, userId, null);
+        }
+    }
+}
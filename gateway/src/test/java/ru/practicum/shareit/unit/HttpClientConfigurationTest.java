@@ -0,0 +1,129 @@
+package ru.practicum.shareit.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import ru.practicum.shareit.client.HttpClientConfiguration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class HttpClientConfigurationTest {
+    private static final int CONCURRENT_CALLS = 20;
+
+    private final HttpClientConfiguration configuration = new HttpClientConfiguration();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLS);
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile CountDownLatch allArrived;
+    private volatile Sinks.Empty<Void> release;
+    private DisposableServer holdingServer;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private RestTemplate restTemplate;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    public void setUp() {
+        holdingServer = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .handle((request, response) -> {
+                    clientPorts.add(request.remoteAddress().getPort());
+                    Sinks.Empty<Void> batchRelease = release;
+                    allArrived.countDown();
+                    return response
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .sendString(batchRelease.asMono().thenReturn("{\"id\":1}"));
+                })
+                .bindNow();
+        connectionManager = configuration.shareitServerConnectionManager(50, 50, Duration.ofSeconds(2));
+        httpClient = configuration.shareitServerHttpClient(
+                connectionManager,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(5)
+        );
+        restTemplate = new RestTemplate(configuration.shareitServerRequestFactory(httpClient));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        httpClient.close();
+        holdingServer.disposeNow();
+    }
+
+    @Test
+    public void shouldLeaseOneConnectionPerConcurrentCallWithoutQueueing() throws Exception {
+        List<Future<String>> calls = startCalls();
+        assertThat(allArrived.await(10, TimeUnit.SECONDS), equalTo(true));
+
+        PoolStats inFlight = connectionManager.getTotalStats();
+        assertThat(inFlight.getLeased(), equalTo(CONCURRENT_CALLS));
+        assertThat(inFlight.getPending(), equalTo(0));
+
+        finish(calls);
+        PoolStats idle = connectionManager.getTotalStats();
+        assertThat(idle.getLeased(), equalTo(0));
+        assertThat(idle.getAvailable(), equalTo(CONCURRENT_CALLS));
+    }
+
+    @Test
+    public void shouldReuseKeptAliveConnections() throws Exception {
+        finish(startCalls());
+        finish(startCalls());
+
+        assertThat(clientPorts.size(), equalTo(CONCURRENT_CALLS));
+        assertThat(connectionManager.getTotalStats().getAvailable(), equalTo(CONCURRENT_CALLS));
+    }
+
+    @Test
+    public void shouldExposePoolMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        configuration.shareitServerConnectionPoolMetrics(connectionManager).bindTo(registry);
+
+        assertThat(registry.get("httpcomponents.httpclient.pool.total.max").gauge().value(), equalTo(50.0));
+        assertThat(registry.get("httpcomponents.httpclient.pool.route.max.default").gauge().value(), equalTo(50.0));
+    }
+
+    private List<Future<String>> startCalls() {
+        allArrived = new CountDownLatch(CONCURRENT_CALLS);
+        release = Sinks.empty();
+        String url = "http://localhost:" + holdingServer.port() + "/items/1";
+        List<Future<String>> calls = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            calls.add(executor.submit(() -> restTemplate.getForObject(url, String.class)));
+        }
+        return calls;
+    }
+
+    private void finish(List<Future<String>> calls) throws Exception {
+        assertThat(allArrived.await(10, TimeUnit.SECONDS), equalTo(true));
+        release.tryEmitEmpty();
+        for (Future<String> call : calls) {
+            assertThat(call.get(10, TimeUnit.SECONDS), equalTo("{\"id\":1}"));
+        }
+    }
+}
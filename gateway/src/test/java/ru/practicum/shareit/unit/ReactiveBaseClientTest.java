@@ -0,0 +1,126 @@
+package ru.practicum.shareit.unit;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.client.ResiliencePolicies;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+@Slf4j
+public class ReactiveBaseClientTest {
+    private static final int CONCURRENT_CALLS = 1000;
+    private static final int CONFIGURED_BULKHEAD_CALLS = 50;
+
+    @Test
+    public void shouldPassServerResponseThrough() {
+        String error = "{\"error\":\"Вещь с id=1 не найдена\"}";
+        List<ClientRequest> requests = new ArrayList<>();
+        TestClient client = new TestClient(WebClient.builder()
+                .uriBuilderFactory(new DefaultUriBuilderFactory("http://server/items"))
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .header(HttpHeaders.TRANSFER_ENCODING, "chunked")
+                            .body(error)
+                            .build());
+                })
+                .build());
+
+        ResponseEntity<Object> response = client.get("/1", 1, null).block();
+
+        assertThat(requests.get(0).url().toString(), equalTo("http://server/items/1"));
+        assertThat(requests.get(0).headers().getFirst("X-Sharer-User-Id"), equalTo("1"));
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.NOT_FOUND));
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8), equalTo(error));
+        assertThat(response.getHeaders().getContentType(), equalTo(MediaType.APPLICATION_JSON));
+        assertThat(response.getHeaders().getFirst(HttpHeaders.TRANSFER_ENCODING), nullValue());
+    }
+
+    @Test
+    public void shouldHoldMoreConcurrentCallsThanConfiguredBulkheadOnEventLoopThreads() {
+        AtomicInteger arrived = new AtomicInteger();
+        Sinks.Empty<Void> allArrived = Sinks.empty();
+        DisposableServer slowServer = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .handle((request, response) -> {
+                    if (arrived.incrementAndGet() == CONCURRENT_CALLS) allArrived.tryEmitEmpty();
+                    return response
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .sendString(allArrived.asMono().thenReturn("{\"id\":1}"));
+                })
+                .bindNow();
+        ConnectionProvider connectionProvider = ConnectionProvider.create("test", CONCURRENT_CALLS);
+        try {
+            TestClient client = new TestClient(WebClient.builder()
+                    .uriBuilderFactory(new DefaultUriBuilderFactory(
+                            "http://localhost:" + slowServer.port() + "/items"
+                    ))
+                    .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                    .build());
+
+            List<ResponseEntity<Object>> responses = Flux.range(0, CONCURRENT_CALLS)
+                    .flatMap(i -> client.post("/" + i, 1, Map.of("id", i)), CONCURRENT_CALLS)
+                    .collectList()
+                    .block(Duration.ofSeconds(60));
+            long eventLoopThreads = Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getName().startsWith("reactor-http-"))
+                    .count();
+
+            log.info("{} одновременных запросов удерживались в {} потоках цикла событий",
+                    CONCURRENT_CALLS, eventLoopThreads);
+            assertThat(responses.size(), equalTo(CONCURRENT_CALLS));
+            assertThat(arrived.get(), equalTo(CONCURRENT_CALLS));
+            assertThat(eventLoopThreads, lessThanOrEqualTo((long) LoopResources.DEFAULT_IO_WORKER_COUNT));
+        } finally {
+            connectionProvider.disposeLater().block();
+            slowServer.disposeNow();
+        }
+    }
+
+    private static class TestClient extends ReactiveBaseClient {
+        TestClient(WebClient webClient) {
+            super(webClient, new ResiliencePolicies(
+                    CircuitBreakerRegistry.ofDefaults(),
+                    BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(CONFIGURED_BULKHEAD_CALLS).build()),
+                    RetryRegistry.ofDefaults(),
+                    true,
+                    CONCURRENT_CALLS,
+                    Map.of("items", CONCURRENT_CALLS)
+            ).get("items"));
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package ru.practicum.shareit.unit;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResiliencePolicies;
+import ru.practicum.shareit.client.ResiliencePolicy;
+import ru.practicum.shareit.exception.UpstreamServerErrorException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+public class ResiliencePolicyTest {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    public void setUp() {
+        restTemplate = new RestTemplate();
+        restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory("http://server/items"));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldRetryGetOnServerError() {
+        TestClient client = new TestClient(restTemplate, policy("items", 10, 1));
+        server.expect(requestTo("http://server/items/1"))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        server.expect(requestTo("http://server/items/1"))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> response = client.send(HttpMethod.GET, "/1");
+
+        server.verify();
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.OK));
+    }
+
+    @Test
+    public void shouldNotRetryPostAndPassServerErrorThrough() {
+        TestClient client = new TestClient(restTemplate, policy("items", 10, 1));
+        server.expect(ExpectedCount.once(), requestTo("http://server/items"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":\"Произошла непредвиденная ошибка.\"}".getBytes(StandardCharsets.UTF_8)));
+
+        ResponseEntity<Object> response = client.send(HttpMethod.POST, "");
+
+        server.verify();
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.INTERNAL_SERVER_ERROR));
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8),
+                equalTo("{\"error\":\"Произошла непредвиденная ошибка.\"}"));
+    }
+
+    @Test
+    public void shouldFailFastWhenCircuitOpen() {
+        ResiliencePolicy policy = policy("items", 10, 1);
+        TestClient client = new TestClient(restTemplate, policy);
+        server.expect(ExpectedCount.times(2), requestTo("http://server/items"))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        client.send(HttpMethod.POST, "");
+        client.send(HttpMethod.POST, "");
+
+        assertThat(policy.getCircuitBreaker().getState(), equalTo(CircuitBreaker.State.OPEN));
+        assertThrows(CallNotPermittedException.class, () -> client.send(HttpMethod.POST, ""));
+        server.verify();
+    }
+
+    @Test
+    public void shouldIsolateFamiliesWithBulkheads() throws Exception {
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        restTemplate.setRequestFactory((uri, method) -> {
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri) {
+                @Override
+                protected ClientHttpResponse executeInternal() throws IOException {
+                    if (uri.getPath().endsWith("/slow")) {
+                        inFlight.countDown();
+                        try {
+                            release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    return super.executeInternal();
+                }
+            };
+            request.setResponse(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+            return request;
+        });
+        TestClient bookings = new TestClient(restTemplate, policy("bookings", 1, 1));
+        TestClient items = new TestClient(restTemplate, policy("items", 1, 1));
+
+        Future<ResponseEntity<Object>> slow = executor.submit(() -> bookings.send(HttpMethod.GET, "/slow"));
+        inFlight.await(10, TimeUnit.SECONDS);
+
+        assertThrows(BulkheadFullException.class, () -> bookings.send(HttpMethod.GET, "/slow"));
+        assertThat(items.send(HttpMethod.GET, "/1").getStatusCode(), equalTo(HttpStatus.OK));
+
+        release.countDown();
+        assertThat(slow.get(10, TimeUnit.SECONDS).getStatusCode(), equalTo(HttpStatus.OK));
+    }
+
+    @Test
+    public void shouldSplitActivePoolBetweenFamilies() {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(50)
+                .maxWaitDuration(Duration.ofSeconds(5))
+                .build());
+        Map<String, Integer> limits = Map.of("items", 60, "bookings", 60, "users", 30, "requests", 30);
+
+        ResiliencePolicies blocking = new ResiliencePolicies(
+                CircuitBreakerRegistry.ofDefaults(),
+                registry,
+                RetryRegistry.ofDefaults(),
+                false,
+                200,
+                180,
+                500,
+                60,
+                60,
+                30,
+                30
+        );
+        BulkheadConfig items = blocking.get("items").getBulkhead().getBulkheadConfig();
+        BulkheadConfig users = blocking.get("users").getBulkhead().getBulkheadConfig();
+        BulkheadConfig reactive = new ResiliencePolicies(
+                CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(),
+                RetryRegistry.ofDefaults(),
+                true,
+                500,
+                limits
+        ).get("bookings").getBulkhead().getBulkheadConfig();
+
+        assertThat(items.getMaxConcurrentCalls(), equalTo(60));
+        assertThat(items.getMaxWaitDuration(), equalTo(Duration.ofSeconds(5)));
+        assertThat(users.getMaxConcurrentCalls(), equalTo(30));
+        assertThat(reactive.getMaxConcurrentCalls(), equalTo(60));
+        assertThat(reactive.getMaxWaitDuration(), equalTo(Duration.ZERO));
+    }
+
+    @Test
+    public void shouldRefuseFamilyLimitsAbovePool() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new ResiliencePolicies(
+                CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(),
+                RetryRegistry.ofDefaults(),
+                false,
+                200,
+                200,
+                500,
+                200,
+                60,
+                30,
+                30
+        ));
+
+        assertThat(e.getMessage().startsWith("Сумма лимитов одновременных запросов"), equalTo(true));
+    }
+
+    private static ResiliencePolicy policy(String name, int maxConcurrentCalls, int retryWaitMillis) {
+        return new ResiliencePolicy(
+                CircuitBreaker.of(name, CircuitBreakerConfig.custom()
+                        .slidingWindowSize(2)
+                        .minimumNumberOfCalls(2)
+                        .failureRateThreshold(50)
+                        .ignoreExceptions(BulkheadFullException.class)
+                        .build()),
+                Bulkhead.of(name, BulkheadConfig.custom()
+                        .maxConcurrentCalls(maxConcurrentCalls)
+                        .maxWaitDuration(Duration.ZERO)
+                        .build()),
+                Retry.of(name, RetryConfig.custom()
+                        .maxAttempts(2)
+                        .waitDuration(Duration.ofMillis(retryWaitMillis))
+                        .retryExceptions(UpstreamServerErrorException.class)
+                        .build())
+        );
+    }
+
+    private static class TestClient extends BaseClient {
+        TestClient(RestTemplate restTemplate, ResiliencePolicy resilience) {
+            super(restTemplate, resilience);
+        }
+
+        ResponseEntity<Object> send(HttpMethod method, String path) {
+            if (HttpMethod.POST.equals(method)) return post(path, 1, null);
+            return get(path, 1, null);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package ru.practicum.shareit.unit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.practicum.shareit.cache.ResponseCacheFilter;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ResponseCacheFilterTest {
+    private ResponseCacheFilter filter;
+    private final AtomicInteger serverCalls = new AtomicInteger();
+
+    private final HttpServlet server = new HttpServlet() {
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            int call = serverCalls.incrementAndGet();
+            response.setContentType("application/json");
+            response.setHeader("X-Next-Cursor", "cursor" + call);
+            response.getOutputStream().write(("{\"call\":" + call + "}").getBytes(StandardCharsets.UTF_8));
+        }
+    };
+
+    @BeforeEach
+    public void setUp() {
+        filter = new ResponseCacheFilter(true, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    public void shouldServeRepeatedGetFromCache() throws Exception {
+        MockHttpServletResponse first = perform("GET", "/items/1", 1, null);
+        MockHttpServletResponse second = perform("GET", "/items/1", 1, null);
+
+        assertThat(serverCalls.get(), equalTo(1));
+        assertThat(second.getStatus(), equalTo(200));
+        assertThat(second.getContentAsString(), equalTo(first.getContentAsString()));
+        assertThat(second.getHeader(HttpHeaders.ETAG), equalTo(first.getHeader(HttpHeaders.ETAG)));
+        assertThat(second.getHeader("X-Next-Cursor"), equalTo("cursor1"));
+        assertThat(second.getContentType(), equalTo("application/json"));
+    }
+
+    @Test
+    public void shouldKeepUsersApart() throws Exception {
+        perform("GET", "/items/1", 1, null);
+        MockHttpServletResponse other = perform("GET", "/items/1", 2, null);
+
+        assertThat(serverCalls.get(), equalTo(2));
+        assertThat(other.getContentAsString(), equalTo("{\"call\":2}"));
+    }
+
+    @Test
+    public void shouldAnswerNotModifiedWhenEtagMatches() throws Exception {
+        String etag = perform("GET", "/bookings", 1, null).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse response = perform("GET", "/bookings", 1, etag);
+
+        assertThat(etag, notNullValue());
+        assertThat(response.getStatus(), equalTo(304));
+        assertThat(response.getContentAsByteArray().length, equalTo(0));
+        assertThat(serverCalls.get(), equalTo(1));
+    }
+
+    @Test
+    public void shouldInvalidateAffectedFamiliesOnMutation() throws Exception {
+        perform("GET", "/items/1", 1, null);
+        perform("GET", "/requests/1", 1, null);
+        perform("GET", "/users/1", 1, null);
+
+        perform("POST", "/bookings", 1, null);
+        perform("GET", "/items/1", 1, null);
+        perform("GET", "/requests/1", 1, null);
+        perform("GET", "/users/1", 1, null);
+
+        assertThat(serverCalls.get(), equalTo(5));
+    }
+
+    @Test
+    public void shouldNotCacheWhenDisabled() throws Exception {
+        filter = new ResponseCacheFilter(false, Duration.ofMinutes(1), 100);
+
+        perform("GET", "/items/1", 1, null);
+        MockHttpServletResponse second = perform("GET", "/items/1", 1, null);
+
+        assertThat(serverCalls.get(), equalTo(2));
+        assertThat(second.getHeader(HttpHeaders.ETAG), nullValue());
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, int userId, String ifNoneMatch)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader("X-Sharer-User-Id", userId);
+        if (ifNoneMatch != null) request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(server));
+        return response;
+    }
+}
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -15,8 +16,12 @@ import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
 import ru.practicum.shareit.booking.model.dto.BookingDtoOutgoing;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.util.List;
+import java.util.function.Function;
+
+import static ru.practicum.shareit.pagination.PageCursor.withNextCursor;
 
 @RestController
 @RequestMapping("/bookings")
@@ -52,22 +57,34 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingDtoOutgoing> getUserBookings(
+    public ResponseEntity<List<BookingDtoOutgoing>> getUserBookings(
             @RequestHeader(USER_ID_HEADER) int userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = "0") int from,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after
     ) {
-        return bookingService.getUserBookings(userId, state, from, size);
+        Function<BookingDtoOutgoing, String> cursor =
+                booking -> PageCursor.encode(booking.getStart(), booking.getId());
+        if (after != null) {
+            return withNextCursor(bookingService.getUserBookingsAfter(userId, state, after, size), cursor);
+        }
+        return withNextCursor(bookingService.getUserBookings(userId, state, from, size), size, cursor);
     }
 
     @GetMapping("/owner")
-    public List<BookingDtoOutgoing> getOwnerBookings(
+    public ResponseEntity<List<BookingDtoOutgoing>> getOwnerBookings(
             @RequestHeader(USER_ID_HEADER) int userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = "0") int from,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after
     ) {
-        return bookingService.getOwnerBookings(userId, state, from, size);
+        Function<BookingDtoOutgoing, String> cursor =
+                booking -> PageCursor.encode(booking.getStart(), booking.getId());
+        if (after != null) {
+            return withNextCursor(bookingService.getOwnerBookingsAfter(userId, state, after, size), cursor);
+        }
+        return withNextCursor(bookingService.getOwnerBookings(userId, state, from, size), size, cursor);
     }
 }
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.booking.availability;
+
+import lombok.Value;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.LocalDateTime;
+
+@Value
+public class BookingInterval {
+    int id;
+    LocalDateTime start;
+    LocalDateTime end;
+    BookingStatus status;
+}
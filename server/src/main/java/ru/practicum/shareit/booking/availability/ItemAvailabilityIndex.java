@@ -0,0 +1,70 @@
+package ru.practicum.shareit.booking.availability;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.storage.BookingStorage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static ru.practicum.shareit.transaction.TransactionHooks.afterCommit;
+
+@Component
+public class ItemAvailabilityIndex implements MeterBinder {
+    private final BookingStorage bookingStorage;
+    private final Cache<Integer, ItemCalendar> calendars;
+
+    public ItemAvailabilityIndex(BookingStorage bookingStorage,
+                                 @Value("${shareit.availability-cache.maximum-size:10000}") long maximumSize,
+                                 @Value("${shareit.availability-cache.expire-after-write:1m}") Duration expireAfterWrite) {
+        this.bookingStorage = bookingStorage;
+        calendars = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public boolean contains(int itemId) {
+        return calendars.getIfPresent(itemId) != null;
+    }
+
+    public boolean hasApprovedOverlap(int itemId, LocalDateTime start, LocalDateTime end) {
+        return calendar(itemId).hasApprovedOverlap(start, end);
+    }
+
+    public List<BookingInterval> getBookings(int itemId, LocalDateTime from, LocalDateTime to) {
+        return calendar(itemId).overlapping(from, to);
+    }
+
+    public void evict(int itemId) {
+        afterCommit(() -> calendars.invalidate(itemId));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, calendars, "item.availability");
+        Gauge.builder("shareit.booking.availability.items", calendars, Cache::estimatedSize)
+                .description("Количество вещей в индексе занятости")
+                .register(registry);
+        Gauge.builder("shareit.booking.availability.intervals", calendars,
+                        cache -> cache.asMap().values().stream().mapToInt(ItemCalendar::size).sum())
+                .description("Количество бронирований в индексе занятости")
+                .register(registry);
+    }
+
+    private ItemCalendar calendar(int itemId) {
+        return calendars.get(
+                itemId,
+                id -> new ItemCalendar(bookingStorage.findIntervalsByItemId(id, BookingStatus.REJECTED))
+        );
+    }
+}
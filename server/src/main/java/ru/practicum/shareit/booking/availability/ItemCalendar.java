@@ -0,0 +1,75 @@
+package ru.practicum.shareit.booking.availability;
+
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+final class ItemCalendar {
+    private static final Comparator<BookingInterval> BY_START = Comparator
+            .comparing(BookingInterval::getStart)
+            .thenComparing(BookingInterval::getId);
+
+    private final BookingInterval[] intervals;
+    private final LocalDateTime[] maxEnds;
+    private final BookingInterval[] approved;
+    private final LocalDateTime[] approvedMaxEnds;
+
+    ItemCalendar(Collection<BookingInterval> source) {
+        intervals = source.stream()
+                .filter(interval -> interval.getStatus() != BookingStatus.REJECTED)
+                .sorted(BY_START)
+                .toArray(BookingInterval[]::new);
+        maxEnds = prefixMaxEnds(intervals);
+        approved = Arrays.stream(intervals)
+                .filter(interval -> interval.getStatus() == BookingStatus.APPROVED)
+                .toArray(BookingInterval[]::new);
+        approvedMaxEnds = prefixMaxEnds(approved);
+    }
+
+    int size() {
+        return intervals.length;
+    }
+
+    boolean hasApprovedOverlap(LocalDateTime from, LocalDateTime to) {
+        int count = countStartingBefore(approved, to);
+        return count > 0 && approvedMaxEnds[count - 1].isAfter(from);
+    }
+
+    List<BookingInterval> overlapping(LocalDateTime from, LocalDateTime to) {
+        Deque<BookingInterval> result = new ArrayDeque<>();
+        for (int i = countStartingBefore(intervals, to) - 1; i >= 0 && maxEnds[i].isAfter(from); i--) {
+            if (intervals[i].getEnd().isAfter(from)) result.addFirst(intervals[i]);
+        }
+        return new ArrayList<>(result);
+    }
+
+    private static int countStartingBefore(BookingInterval[] sorted, LocalDateTime time) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle].getStart().isBefore(time)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static LocalDateTime[] prefixMaxEnds(BookingInterval[] sorted) {
+        LocalDateTime[] result = new LocalDateTime[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            LocalDateTime end = sorted[i].getEnd();
+            result[i] = i > 0 && result[i - 1].isAfter(end) ? result[i - 1] : end;
+        }
+        return result;
+    }
+}
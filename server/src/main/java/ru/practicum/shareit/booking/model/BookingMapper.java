@@ -3,7 +3,9 @@ package ru.practicum.shareit.booking.model;
 import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
 import ru.practicum.shareit.booking.model.dto.BookingDtoOutgoing;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.dto.ItemDto;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.model.UserDto;
 
 import static ru.practicum.shareit.item.model.ItemMapper.itemToDto;
 import static ru.practicum.shareit.user.model.UserMapper.userToDto;
@@ -20,6 +22,27 @@ public class BookingMapper {
         );
     }
 
+    public static BookingDtoOutgoing bookingToDtoOutgoing(BookingSummary booking) {
+        return new BookingDtoOutgoing(
+                booking.getId(),
+                booking.getStart(),
+                booking.getEnd(),
+                new ItemDto(
+                        booking.getItemId(),
+                        booking.getItemName(),
+                        booking.getItemDescription(),
+                        booking.getItemIsAvailable(),
+                        booking.getItemRequestId(),
+                        null,
+                        null,
+                        null,
+                        null
+                ),
+                new UserDto(booking.getBookerId(), booking.getBookerName(), booking.getBookerEmail()),
+                booking.getStatus()
+        );
+    }
+
     public static Booking bookingFromDto(BookingDtoDefault bookingDtoDefault, User booker, Item item) {
         return new Booking(
                 bookingDtoDefault.getId(),
@@ -27,7 +50,8 @@ public class BookingMapper {
                 bookingDtoDefault.getEnd(),
                 item,
                 booker,
-                bookingDtoDefault.getStatus()
+                bookingDtoDefault.getStatus(),
+                null
         );
     }
 
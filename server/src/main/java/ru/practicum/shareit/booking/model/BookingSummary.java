@@ -0,0 +1,21 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+public class BookingSummary {
+    Integer id;
+    LocalDateTime start;
+    LocalDateTime end;
+    BookingStatus status;
+    Integer itemId;
+    String itemName;
+    String itemDescription;
+    Boolean itemIsAvailable;
+    Integer itemRequestId;
+    Integer bookerId;
+    String bookerName;
+    String bookerEmail;
+}
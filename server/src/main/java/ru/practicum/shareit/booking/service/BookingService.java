@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking.service;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
 import ru.practicum.shareit.booking.model.dto.BookingDtoOutgoing;
 
@@ -15,4 +16,8 @@ public interface BookingService {
     List<BookingDtoOutgoing> getUserBookings(int userId, String stateString, int from, int size);
 
     List<BookingDtoOutgoing> getOwnerBookings(int userId, String stateString, int from, int size);
+
+    Slice<BookingDtoOutgoing> getUserBookingsAfter(int userId, String stateString, String after, int size);
+
+    Slice<BookingDtoOutgoing> getOwnerBookingsAfter(int userId, String stateString, String after, int size);
 }
@@ -2,25 +2,37 @@ package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.availability.ItemAvailabilityIndex;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingMapper;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingSummary;
 import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
 import ru.practicum.shareit.booking.model.dto.BookingDtoOutgoing;
 import ru.practicum.shareit.booking.storage.BookingStorage;
+import ru.practicum.shareit.exception.BookingConflictException;
 import ru.practicum.shareit.exception.BookingEndTimeException;
 import ru.practicum.shareit.exception.BookingNotFoundException;
 import ru.practicum.shareit.exception.BookingStatusException;
 import ru.practicum.shareit.exception.ItemNotFoundException;
 import ru.practicum.shareit.exception.ItemUnavailableException;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.cache.ItemViewCache;
+import ru.practicum.shareit.item.card.ItemCardRefresher;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.storage.ItemStorage;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.user.cache.UserExistenceCache;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserStorage;
 
@@ -38,9 +50,14 @@ import static ru.practicum.shareit.booking.model.BookingMapper.bookingToDtoOutgo
 public class BookingServiceImpl implements BookingService {
     private final BookingStorage bookingStorage;
     private final UserStorage userStorage;
+    private final UserExistenceCache userExistenceCache;
     private final ItemStorage itemStorage;
+    private final ItemAvailabilityIndex itemAvailabilityIndex;
+    private final ItemViewCache itemViewCache;
+    private final ItemCardRefresher itemCardRefresher;
 
     @Override
+    @Transactional
     public BookingDtoOutgoing addBooking(BookingDtoDefault bookingDtoDefault) {
         int userId = bookingDtoDefault.getBookerId();
         Optional<User> userOptional = userStorage.findById(userId);
@@ -54,15 +71,24 @@ public class BookingServiceImpl implements BookingService {
         if (!item.getIsAvailable()) throw new ItemUnavailableException("Вещь с id=" + itemId + " не доступна");
         if (!bookingDtoDefault.getEnd().isAfter(bookingDtoDefault.getStart()))
             throw new BookingEndTimeException("Момент окончания бронирования должен быть позже начала");
+        if (itemAvailabilityIndex.hasApprovedOverlap(
+                itemId,
+                bookingDtoDefault.getStart(),
+                bookingDtoDefault.getEnd()
+        )) throw new BookingConflictException("Вещь с id=" + itemId + " уже забронирована на этот период");
 
         Booking booking = bookingStorage.save(
                 bookingFromDto(bookingDtoDefault, userOptional.get(), item)
         );
+        itemAvailabilityIndex.evict(itemId);
+        itemCardRefresher.markStale(itemId);
+        itemViewCache.evict(itemId);
         log.info("Добавлено бронирование {}", booking);
         return bookingToDtoOutgoing(booking);
     }
 
     @Override
+    @Transactional
     public BookingDtoOutgoing approveBooking(int userId, int bookingId, boolean approved) {
         Optional<Booking> bookingOptional = bookingStorage.findByIdAndItemOwnerId(bookingId, userId);
         if (bookingOptional.isEmpty())
@@ -71,19 +97,31 @@ public class BookingServiceImpl implements BookingService {
         if (!booking.getStatus().equals(BookingStatus.WAITING))
             throw new BookingStatusException("Статус бронирования не является 'WAITING'");
         if (approved) {
+            int itemId = booking.getItem().getId();
+            itemStorage.findByIdForUpdate(itemId);
+            if (bookingStorage.existsOverlapping(itemId, BookingStatus.APPROVED, booking.getStart(), booking.getEnd()))
+                throw new BookingConflictException("Вещь с id=" + itemId + " уже забронирована на этот период");
             booking.setStatus(BookingStatus.APPROVED);
             log.info("Пользователь с id={} подтвердил бронирование с id={}", userId, bookingId);
         } else {
             booking.setStatus(BookingStatus.REJECTED);
             log.info("Пользователь с id={} отклонил бронирование с id={}", userId, bookingId);
         }
-        return bookingToDtoOutgoing(bookingStorage.save(booking));
+        try {
+            booking = bookingStorage.saveAndFlush(booking);
+        } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException e) {
+            throw new BookingConflictException("Бронирование с id=" + bookingId + " было изменено параллельно");
+        }
+        itemAvailabilityIndex.evict(booking.getItem().getId());
+        itemCardRefresher.markStale(booking.getItem().getId());
+        itemViewCache.evict(booking.getItem().getId());
+        return bookingToDtoOutgoing(booking);
     }
 
     @Override
     @Transactional(readOnly = true)
     public BookingDtoOutgoing getById(int userId, int bookingId) {
-        if (!userStorage.existsById(userId))
+        if (!userExistenceCache.exists(userId))
             throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
         Optional<Booking> bookingOptional = bookingStorage.findById(bookingId);
         if (bookingOptional.isEmpty())
@@ -101,10 +139,10 @@ public class BookingServiceImpl implements BookingService {
     @Transactional(readOnly = true)
     public List<BookingDtoOutgoing> getUserBookings(int userId, String stateString, int from, int size) {
         BookingState state = BookingState.valueOf(stateString);
-        if (!userStorage.existsById(userId))
+        if (!userExistenceCache.exists(userId))
             throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
         log.info("Пользователь с id={} запросил список своих бронирований со статусом {}", userId, state);
-        List<Booking> bookings;
+        List<BookingSummary> bookings;
 
         switch (state) {
             case FUTURE:
@@ -157,10 +195,10 @@ public class BookingServiceImpl implements BookingService {
     @Transactional(readOnly = true)
     public List<BookingDtoOutgoing> getOwnerBookings(int userId, String stateString, int from, int size) {
         BookingState state = BookingState.valueOf(stateString);
-        if (!userStorage.existsById(userId))
+        if (!userExistenceCache.exists(userId))
             throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
         log.info("Пользователь с id={} запросил список бронирований своих вещей со статусом {}", userId, state);
-        List<Booking> bookings;
+        List<BookingSummary> bookings;
 
         switch (state) {
             case FUTURE:
@@ -209,8 +247,145 @@ public class BookingServiceImpl implements BookingService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<BookingDtoOutgoing> getUserBookingsAfter(int userId, String stateString, String after, int size) {
+        BookingState state = BookingState.valueOf(stateString);
+        if (!userExistenceCache.exists(userId))
+            throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
+        PageCursor cursor = PageCursor.decode(after);
+        log.info("Пользователь с id={} запросил список своих бронирований со статусом {} после курсора {}",
+                userId, state, cursor);
+        LocalDateTime afterStart = cursor.requireTime();
+        int afterId = cursor.getId();
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<BookingSummary> bookings;
+
+        switch (state) {
+            case FUTURE:
+                bookings = bookingStorage.findFutureByBookerIdAfterCursor(
+                        userId,
+                        LocalDateTime.now(),
+                        afterStart,
+                        afterId,
+                        pageable
+                );
+                break;
+            case CURRENT:
+                LocalDateTime now = LocalDateTime.now();
+                bookings = bookingStorage.findCurrentByBookerIdAfterCursor(
+                        userId,
+                        now,
+                        now,
+                        afterStart,
+                        afterId,
+                        pageable
+                );
+                break;
+            case PAST:
+                bookings = bookingStorage.findPastByBookerIdAfterCursor(
+                        userId,
+                        LocalDateTime.now(),
+                        afterStart,
+                        afterId,
+                        pageable
+                );
+                break;
+            case WAITING:
+                bookings = bookingStorage.findByBookerIdAndStatusAfterCursor(
+                        userId,
+                        BookingStatus.WAITING,
+                        afterStart,
+                        afterId,
+                        pageable
+                );
+                break;
+            case REJECTED:
+                bookings = bookingStorage.findByBookerIdAndStatusAfterCursor(
+                        userId,
+                        BookingStatus.REJECTED,
+                        afterStart,
+                        afterId,
+                        pageable
+                );
+                break;
+            default:
+                bookings = bookingStorage.findByBookerIdAfterCursor(userId, afterStart, afterId, pageable);
+        }
+
+        return bookings.map(BookingMapper::bookingToDtoOutgoing);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<BookingDtoOutgoing> getOwnerBookingsAfter(int userId, String stateString, String after, int size) {
+        BookingState state = BookingState.valueOf(stateString);
+        if (!userExistenceCache.exists(userId))
+            throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
+        PageCursor cursor = PageCursor.decode(after);
+        log.info("Пользователь с id={} запросил список бронирований своих вещей со статусом {} после курсора {}",
+                userId, state, cursor);
+        LocalDateTime afterStart = cursor.requireTime();
+        int afterId = cursor.getId();
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<BookingSummary> bookings;
+
+        switch (state) {
+            case FUTURE:
+                bookings = bookingStorage.findFutureByItemOwnerIdAfterCursor(
+                        userId,
+                        LocalDateTime.now(),
+                        afterStart,
+                        afterId,
+                        pageable
+                );
+                break;
+            case CURRENT:
+                LocalDateTime now = LocalDateTime.now();
+                bookings = bookingStorage.findCurrentByItemOwnerIdAfterCursor(
+                        userId,
+                        now,
+                        now,
+                        afterStart,
+                        afterId,
+                        pageable
+                );
+                break;
+            case PAST:
+                bookings = bookingStorage.findPastByItemOwnerIdAfterCursor(
+                        userId,
+                        LocalDateTime.now(),
+                        afterStart,
+                        afterId,
+                        pageable
+                );
+                break;
+            case WAITING:
+                bookings = bookingStorage.findByItemOwnerIdAndStatusAfterCursor(
+                        userId,
+                        BookingStatus.WAITING,
+                        afterStart,
+                        afterId,
+                        pageable
+                );
+                break;
+            case REJECTED:
+                bookings = bookingStorage.findByItemOwnerIdAndStatusAfterCursor(
+                        userId,
+                        BookingStatus.REJECTED,
+                        afterStart,
+                        afterId,
+                        pageable
+                );
+                break;
+            default:
+                bookings = bookingStorage.findByItemOwnerIdAfterCursor(userId, afterStart, afterId, pageable);
+        }
+
+        return bookings.map(BookingMapper::bookingToDtoOutgoing);
+    }
+
     private Pageable getPageable(int from, int size) {
-        int page = from / size;
-        return PageRequest.of(page, size);
+        return OffsetPageRequest.of(from, size, Sort.by(Sort.Direction.DESC, "id"));
     }
 }
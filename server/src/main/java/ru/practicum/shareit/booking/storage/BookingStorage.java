@@ -1,52 +1,240 @@
 package ru.practicum.shareit.booking.storage;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.booking.availability.BookingInterval;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingSummary;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BookingStorage extends JpaRepository<Booking, Integer> {
-    List<Booking> findByBookerIdOrderByStartDesc(int id, Pageable pageable);
-
-    List<Booking> findByBookerIdAndStartAfterOrderByStartDesc(int id, LocalDateTime localDateTime, Pageable pageable);
-
-    List<Booking> findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(int id,
-                                                                          LocalDateTime forStart,
-                                                                          LocalDateTime forEnd,
-                                                                          Pageable pageable);
-
-    List<Booking> findByBookerIdAndEndBeforeOrderByStartDesc(int id, LocalDateTime localDateTime, Pageable pageable);
-
-    List<Booking> findByBookerIdAndStatusOrderByStartDesc(int id, BookingStatus status, Pageable pageable);
-
-    List<Booking> findByItemOwnerIdOrderByStartDesc(int id, Pageable pageable);
-
-    List<Booking> findByItemOwnerIdAndStartAfterOrderByStartDesc(int id,
-                                                                 LocalDateTime localDateTime,
-                                                                 Pageable pageable);
-
-    List<Booking> findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(int id,
-                                                                             LocalDateTime forStart,
-                                                                             LocalDateTime forEnd,
-                                                                             Pageable pageable);
-
-    List<Booking> findByItemOwnerIdAndEndBeforeOrderByStartDesc(int id, LocalDateTime localDateTime, Pageable pageable);
-
-    List<Booking> findByItemOwnerIdAndStatusOrderByStartDesc(int id, BookingStatus status, Pageable pageable);
-
-    Booking findFirstByItemIdAndStatusNotAndStartAfterOrderByStartAsc(int itemId,
-                                                                             BookingStatus status,
-                                                                             LocalDateTime localDateTime);
-
-    Booking findFirstByItemIdAndStatusNotAndStartBeforeOrderByStartDesc(int itemId,
-                                                                               BookingStatus status,
-                                                                               LocalDateTime localDateTime);
+    String SUMMARY_SELECT = "select new ru.practicum.shareit.booking.model.BookingSummary(" +
+            "b.id, b.start, b.end, b.status, " +
+            "i.id, i.name, i.description, i.isAvailable, i.request.id, " +
+            "u.id, u.name, u.email) " +
+            "from Booking as b " +
+            "join b.item as i " +
+            "join b.booker as u ";
+
+    @Query(SUMMARY_SELECT +
+            "where b.booker.id = ?1 " +
+            "order by b.start desc")
+    List<BookingSummary> findByBookerIdOrderByStartDesc(int id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where b.booker.id = ?1 " +
+            "and b.start > ?2 " +
+            "order by b.start desc")
+    List<BookingSummary> findByBookerIdAndStartAfterOrderByStartDesc(int id,
+                                                                     LocalDateTime localDateTime,
+                                                                     Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where b.booker.id = ?1 " +
+            "and b.start < ?2 " +
+            "and b.end > ?3 " +
+            "order by b.start desc")
+    List<BookingSummary> findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(int id,
+                                                                                 LocalDateTime forStart,
+                                                                                 LocalDateTime forEnd,
+                                                                                 Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where b.booker.id = ?1 " +
+            "and b.end < ?2 " +
+            "order by b.start desc")
+    List<BookingSummary> findByBookerIdAndEndBeforeOrderByStartDesc(int id,
+                                                                    LocalDateTime localDateTime,
+                                                                    Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where b.booker.id = ?1 " +
+            "and b.status = ?2 " +
+            "order by b.start desc")
+    List<BookingSummary> findByBookerIdAndStatusOrderByStartDesc(int id, BookingStatus status, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where i.owner.id = ?1 " +
+            "order by b.start desc")
+    List<BookingSummary> findByItemOwnerIdOrderByStartDesc(int id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where i.owner.id = ?1 " +
+            "and b.start > ?2 " +
+            "order by b.start desc")
+    List<BookingSummary> findByItemOwnerIdAndStartAfterOrderByStartDesc(int id,
+                                                                        LocalDateTime localDateTime,
+                                                                        Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where i.owner.id = ?1 " +
+            "and b.start < ?2 " +
+            "and b.end > ?3 " +
+            "order by b.start desc")
+    List<BookingSummary> findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(int id,
+                                                                                    LocalDateTime forStart,
+                                                                                    LocalDateTime forEnd,
+                                                                                    Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where i.owner.id = ?1 " +
+            "and b.end < ?2 " +
+            "order by b.start desc")
+    List<BookingSummary> findByItemOwnerIdAndEndBeforeOrderByStartDesc(int id,
+                                                                       LocalDateTime localDateTime,
+                                                                       Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where i.owner.id = ?1 " +
+            "and b.status = ?2 " +
+            "order by b.start desc")
+    List<BookingSummary> findByItemOwnerIdAndStatusOrderByStartDesc(int id, BookingStatus status, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where b.booker.id = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    Slice<BookingSummary> findByBookerIdAfterCursor(int id, LocalDateTime afterStart, int afterId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where b.booker.id = ?1 " +
+            "and b.start > ?2 " +
+            "and (b.start < ?3 or (b.start = ?3 and b.id < ?4)) " +
+            "order by b.start desc, b.id desc")
+    Slice<BookingSummary> findFutureByBookerIdAfterCursor(int id,
+                                                          LocalDateTime localDateTime,
+                                                          LocalDateTime afterStart,
+                                                          int afterId,
+                                                          Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where b.booker.id = ?1 " +
+            "and b.start < ?2 " +
+            "and b.end > ?3 " +
+            "and (b.start < ?4 or (b.start = ?4 and b.id < ?5)) " +
+            "order by b.start desc, b.id desc")
+    Slice<BookingSummary> findCurrentByBookerIdAfterCursor(int id,
+                                                           LocalDateTime forStart,
+                                                           LocalDateTime forEnd,
+                                                           LocalDateTime afterStart,
+                                                           int afterId,
+                                                           Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where b.booker.id = ?1 " +
+            "and b.end < ?2 " +
+            "and (b.start < ?3 or (b.start = ?3 and b.id < ?4)) " +
+            "order by b.start desc, b.id desc")
+    Slice<BookingSummary> findPastByBookerIdAfterCursor(int id,
+                                                        LocalDateTime localDateTime,
+                                                        LocalDateTime afterStart,
+                                                        int afterId,
+                                                        Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where b.booker.id = ?1 " +
+            "and b.status = ?2 " +
+            "and (b.start < ?3 or (b.start = ?3 and b.id < ?4)) " +
+            "order by b.start desc, b.id desc")
+    Slice<BookingSummary> findByBookerIdAndStatusAfterCursor(int id,
+                                                             BookingStatus status,
+                                                             LocalDateTime afterStart,
+                                                             int afterId,
+                                                             Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where i.owner.id = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    Slice<BookingSummary> findByItemOwnerIdAfterCursor(int id,
+                                                       LocalDateTime afterStart,
+                                                       int afterId,
+                                                       Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where i.owner.id = ?1 " +
+            "and b.start > ?2 " +
+            "and (b.start < ?3 or (b.start = ?3 and b.id < ?4)) " +
+            "order by b.start desc, b.id desc")
+    Slice<BookingSummary> findFutureByItemOwnerIdAfterCursor(int id,
+                                                             LocalDateTime localDateTime,
+                                                             LocalDateTime afterStart,
+                                                             int afterId,
+                                                             Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where i.owner.id = ?1 " +
+            "and b.start < ?2 " +
+            "and b.end > ?3 " +
+            "and (b.start < ?4 or (b.start = ?4 and b.id < ?5)) " +
+            "order by b.start desc, b.id desc")
+    Slice<BookingSummary> findCurrentByItemOwnerIdAfterCursor(int id,
+                                                              LocalDateTime forStart,
+                                                              LocalDateTime forEnd,
+                                                              LocalDateTime afterStart,
+                                                              int afterId,
+                                                              Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where i.owner.id = ?1 " +
+            "and b.end < ?2 " +
+            "and (b.start < ?3 or (b.start = ?3 and b.id < ?4)) " +
+            "order by b.start desc, b.id desc")
+    Slice<BookingSummary> findPastByItemOwnerIdAfterCursor(int id,
+                                                           LocalDateTime localDateTime,
+                                                           LocalDateTime afterStart,
+                                                           int afterId,
+                                                           Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where i.owner.id = ?1 " +
+            "and b.status = ?2 " +
+            "and (b.start < ?3 or (b.start = ?3 and b.id < ?4)) " +
+            "order by b.start desc, b.id desc")
+    Slice<BookingSummary> findByItemOwnerIdAndStatusAfterCursor(int id,
+                                                                BookingStatus status,
+                                                                LocalDateTime afterStart,
+                                                                int afterId,
+                                                                Pageable pageable);
+
+    @Query(value = "select t.id, t.start_time, t.end_time, t.item_id, t.booker_id, t.status, t.version " +
+            "from (select b.*, row_number() over (partition by b.item_id order by b.start_time desc) as rn " +
+            "from bookings as b " +
+            "where b.item_id in ?1 and b.status <> 'REJECTED' and b.start_time < ?2) as t " +
+            "where t.rn = 1", nativeQuery = true)
+    List<Booking> findLastByItemIdIn(Collection<Integer> itemIds, LocalDateTime localDateTime);
+
+    @Query(value = "select t.id, t.start_time, t.end_time, t.item_id, t.booker_id, t.status, t.version " +
+            "from (select b.*, row_number() over (partition by b.item_id order by b.start_time asc) as rn " +
+            "from bookings as b " +
+            "where b.item_id in ?1 and b.status <> 'REJECTED' and b.start_time > ?2) as t " +
+            "where t.rn = 1", nativeQuery = true)
+    List<Booking> findNextByItemIdIn(Collection<Integer> itemIds, LocalDateTime localDateTime);
+
+    @Query("select case when count(b) > 0 then true else false end " +
+            "from Booking as b " +
+            "where b.item.id = ?1 " +
+            "and b.status = ?2 " +
+            "and b.start < ?4 " +
+            "and b.end > ?3")
+    boolean existsOverlapping(int itemId, BookingStatus status, LocalDateTime start, LocalDateTime end);
+
+    @Query("select new ru.practicum.shareit.booking.availability.BookingInterval(b.id, b.start, b.end, b.status) " +
+            "from Booking as b " +
+            "where b.item.id = ?1 " +
+            "and b.status <> ?2")
+    List<BookingInterval> findIntervalsByItemId(int itemId, BookingStatus excludedStatus);
 
     Boolean existsByBookerIdAndItemIdAndEndBefore(int bookerId, int itemId, LocalDateTime localDateTime);
 
+    @EntityGraph(attributePaths = {"item", "booker"})
     Optional<Booking> findByIdAndItemOwnerId(int id, int ownerId);
 }
\ No newline at end of file
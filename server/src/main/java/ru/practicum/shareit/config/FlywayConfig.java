@@ -0,0 +1,25 @@
+package ru.practicum.shareit.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Slf4j
+public class FlywayConfig {
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${shareit.db.migrate-on-startup:false}") boolean migrateOnStartup
+    ) {
+        return flyway -> {
+            if (migrateOnStartup) {
+                log.info("Применены миграции схемы: {}", flyway.migrate().migrationsExecuted);
+            } else {
+                flyway.validate();
+                log.info("Схема базы данных соответствует миграциям");
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+@Slf4j
+public class HibernateCacheConfig {
+    public static final String USERS_REGION = "users";
+    public static final String ITEMS_REGION = "items";
+    public static final String ITEM_REQUESTS_REGION = "item-requests";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${shareit.entity-cache.users.maximum-size:100000}") long usersMaximumSize,
+            @Value("${shareit.entity-cache.items.maximum-size:100000}") long itemsMaximumSize,
+            @Value("${shareit.entity-cache.item-requests.maximum-size:20000}") long itemRequestsMaximumSize,
+            @Value("${shareit.entity-cache.expire-after-write:5m}") Duration expireAfterWrite
+    ) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("shareit-hibernate-" + UUID.randomUUID()),
+                provider.getDefaultClassLoader()
+        );
+        Map.of(
+                USERS_REGION, usersMaximumSize,
+                ITEMS_REGION, itemsMaximumSize,
+                ITEM_REQUESTS_REGION, itemRequestsMaximumSize
+        ).forEach((region, maximumSize) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+            log.info("Создан регион кэша сущностей '{}' на {} записей", region, maximumSize);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
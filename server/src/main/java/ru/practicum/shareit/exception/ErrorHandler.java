@@ -10,7 +10,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 @Slf4j
 public class ErrorHandler {
-    @ExceptionHandler({ItemUnavailableException.class, BookingEndTimeException.class, BookingStatusException.class})
+    @ExceptionHandler({ItemUnavailableException.class, BookingEndTimeException.class, BookingStatusException.class,
+            PageCursorException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleBadRequest(RuntimeException e) {
         log.error(e.getMessage());
@@ -25,7 +26,7 @@ public class ErrorHandler {
         return new ErrorResponse(e.getMessage());
     }
 
-    @ExceptionHandler({UserAlreadyExistsException.class})
+    @ExceptionHandler({UserAlreadyExistsException.class, BookingConflictException.class})
     @ResponseStatus(HttpStatus.CONFLICT)
     public ErrorResponse handleAlreadyExistsException(RuntimeException e) {
         log.error(e.getMessage());
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exception;
+
+public class PageCursorException extends RuntimeException {
+    public PageCursorException(String message) {
+        super(message);
+    }
+}
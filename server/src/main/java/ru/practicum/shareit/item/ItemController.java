@@ -1,6 +1,8 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,10 +15,17 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.model.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.model.dto.ItemBatchResultDto;
 import ru.practicum.shareit.item.model.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.PageCursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
+
+import static ru.practicum.shareit.pagination.PageCursor.withNextCursor;
 
 @RestController
 @RequestMapping("/items")
@@ -33,12 +42,17 @@ public class ItemController {
     }
 
     @GetMapping
-    public List<ItemDto> getItemsByUserId(
+    public ResponseEntity<List<ItemDto>> getItemsByUserId(
             @RequestHeader(USER_ID_HEADER) int userId,
             @RequestParam(defaultValue = "0") int from,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after
     ) {
-        return itemService.getItemsByUserId(userId, from, size);
+        Function<ItemDto, String> cursor = item -> PageCursor.encode(item.getId());
+        if (after != null) {
+            return withNextCursor(itemService.getItemsByUserIdAfter(userId, after, size), cursor);
+        }
+        return withNextCursor(itemService.getItemsByUserId(userId, from, size), size, cursor);
     }
 
     @PostMapping
@@ -46,6 +60,12 @@ public class ItemController {
         return itemService.addItem(userId, itemDto);
     }
 
+    @PostMapping("/batch")
+    public List<ItemBatchResultDto> addItems(@RequestHeader(USER_ID_HEADER) int userId,
+                                             @RequestBody List<ItemDto> itemDtos) {
+        return itemService.addItems(userId, itemDtos);
+    }
+
     @PatchMapping("/{itemId}")
     public ItemDto updateItem(@RequestHeader(USER_ID_HEADER) int userId,
                            @PathVariable int itemId, @RequestBody ItemDto itemDto) {
@@ -58,6 +78,15 @@ public class ItemController {
         itemService.deleteItem(userId, itemId);
     }
 
+    @GetMapping("/{itemId}/availability")
+    public ItemAvailabilityDto getItemAvailability(
+            @PathVariable int itemId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return itemService.getItemAvailability(itemId, from, to);
+    }
+
     @GetMapping("/search")
     public List<ItemDto> findItems(
             @RequestParam String text,
@@ -67,6 +96,15 @@ public class ItemController {
         return itemService.findItems(text, from, size);
     }
 
+    @GetMapping("/{itemId}/comments")
+    public List<CommentDto> getComments(
+            @PathVariable int itemId,
+            @RequestParam(defaultValue = "0") int from,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return itemService.getComments(itemId, from, size);
+    }
+
     @PostMapping("/{itemId}/comment")
     public CommentDto addComment(@RequestHeader(USER_ID_HEADER) int userId,
                                  @PathVariable int itemId,
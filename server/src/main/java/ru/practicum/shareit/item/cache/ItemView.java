@@ -0,0 +1,10 @@
+package ru.practicum.shareit.item.cache;
+
+import lombok.Value;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+@Value
+public class ItemView {
+    int ownerId;
+    ItemDto item;
+}
@@ -0,0 +1,92 @@
+package ru.practicum.shareit.item.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import static ru.practicum.shareit.transaction.TransactionHooks.afterCommit;
+
+@Component
+public class ItemViewCache implements MeterBinder {
+    private final Cache<Integer, ItemView> publicViews;
+    private final Cache<Integer, ItemDto> ownerViews;
+    private final TransactionTemplate readTransaction;
+
+    public ItemViewCache(@Value("${shareit.item-cache.maximum-size:10000}") long maximumSize,
+                         @Value("${shareit.item-cache.expire-after-write:5m}") Duration expireAfterWrite,
+                         PlatformTransactionManager transactionManager) {
+        publicViews = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        ownerViews = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new OwnerViewExpiry(expireAfterWrite))
+                .recordStats()
+                .build();
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        readTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public ItemView getPublicView(int itemId, Function<Integer, ItemView> loader) {
+        return publicViews.get(itemId, id -> readTransaction.execute(status -> loader.apply(id)));
+    }
+
+    public ItemDto getOwnerView(int itemId, Function<Integer, ItemDto> loader) {
+        return ownerViews.get(itemId, id -> readTransaction.execute(status -> loader.apply(id)));
+    }
+
+    public void evict(int itemId) {
+        afterCommit(() -> {
+            publicViews.invalidate(itemId);
+            ownerViews.invalidate(itemId);
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, publicViews, "item.public");
+        CaffeineCacheMetrics.monitor(registry, ownerViews, "item.owner");
+    }
+
+    private static class OwnerViewExpiry implements Expiry<Integer, ItemDto> {
+        private final Duration maximum;
+
+        OwnerViewExpiry(Duration maximum) {
+            this.maximum = maximum;
+        }
+
+        @Override
+        public long expireAfterCreate(Integer itemId, ItemDto item, long currentTime) {
+            if (item.getNextBooking() == null) return maximum.toNanos();
+            Duration untilNextBooking = Duration.between(LocalDateTime.now(), item.getNextBooking().getStart());
+            if (untilNextBooking.isNegative()) return 0;
+            return untilNextBooking.compareTo(maximum) < 0 ? untilNextBooking.toNanos() : maximum.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Integer itemId, ItemDto item, long currentTime, long currentDuration) {
+            return expireAfterCreate(itemId, item, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Integer itemId, ItemDto item, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
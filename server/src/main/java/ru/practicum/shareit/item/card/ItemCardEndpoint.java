@@ -0,0 +1,20 @@
+package ru.practicum.shareit.item.card;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "itemcards")
+@RequiredArgsConstructor
+public class ItemCardEndpoint {
+    private final ItemCardRefresher itemCardRefresher;
+
+    @WriteOperation
+    public Map<String, Integer> rebuild() {
+        return Map.of("rebuilt", itemCardRefresher.rebuild());
+    }
+}
@@ -0,0 +1,195 @@
+package ru.practicum.shareit.item.card;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.storage.BookingStorage;
+import ru.practicum.shareit.item.model.CommentCount;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemCard;
+import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.storage.CommentStorage;
+import ru.practicum.shareit.item.storage.ItemCardStorage;
+import ru.practicum.shareit.item.storage.ItemStorage;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static ru.practicum.shareit.item.model.CommentMapper.commentToDto;
+import static ru.practicum.shareit.item.model.ItemCardMapper.cardFromItem;
+import static ru.practicum.shareit.transaction.TransactionHooks.afterCommit;
+
+@Component
+@Slf4j
+public class ItemCardRefresher {
+    public static final int COMMENTS_PREVIEW_SIZE = 10;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int REFRESH_ATTEMPTS = 3;
+
+    private final ItemStorage itemStorage;
+    private final BookingStorage bookingStorage;
+    private final CommentStorage commentStorage;
+    private final ItemCardStorage itemCardStorage;
+    private final TransactionTemplate newTransaction;
+    private final TaskExecutor taskExecutor;
+
+    public ItemCardRefresher(ItemStorage itemStorage,
+                             BookingStorage bookingStorage,
+                             CommentStorage commentStorage,
+                             ItemCardStorage itemCardStorage,
+                             PlatformTransactionManager transactionManager,
+                             TaskExecutor taskExecutor) {
+        this.itemStorage = itemStorage;
+        this.bookingStorage = bookingStorage;
+        this.commentStorage = commentStorage;
+        this.itemCardStorage = itemCardStorage;
+        this.taskExecutor = taskExecutor;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional
+    public void create(Collection<Item> items) {
+        itemStorage.flush();
+        itemCardStorage.saveAll(items.stream()
+                .map(item -> cardFromItem(item, null, null, Collections.emptyList(), 0, null))
+                .collect(Collectors.toList()));
+    }
+
+    @Transactional
+    public void markStale(int itemId) {
+        markStale(List.of(itemId));
+    }
+
+    @Transactional
+    public void markStale(Collection<Integer> itemIds) {
+        if (itemIds.isEmpty()) return;
+        itemCardStorage.markStale(itemIds, LocalDateTime.now());
+    }
+
+    @Transactional
+    public List<Integer> markStaleCommentedBy(int authorId) {
+        List<Integer> itemIds = commentStorage.findItemIdsByAuthorId(authorId);
+        markStale(itemIds);
+        log.info("Помечены к обновлению карточки {} вещей с комментариями пользователя с id={}",
+                itemIds.size(), authorId);
+        return itemIds;
+    }
+
+    public List<ItemCard> refreshStale(List<ItemCard> cards) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, Integer> staleVersions = cards.stream()
+                .filter(card -> card.getRefreshAt() != null && !card.getRefreshAt().isAfter(now))
+                .collect(Collectors.toMap(ItemCard::getItemId, ItemCard::getVersion));
+        if (staleVersions.isEmpty()) return cards;
+        Map<Integer, ItemCard> freshCards = buildCards(staleVersions.keySet(), staleVersions).stream()
+                .collect(Collectors.toMap(ItemCard::getItemId, Function.identity()));
+        afterCommit(() -> taskExecutor.execute(() -> saveRefreshed(freshCards.values())));
+        return cards.stream()
+                .map(card -> freshCards.getOrDefault(card.getItemId(), card))
+                .collect(Collectors.toList());
+    }
+
+    public int rebuild() {
+        int rebuilt = 0;
+        int afterId = 0;
+        List<Integer> batch;
+        do {
+            batch = itemStorage.findByIdGreaterThanOrderById(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE)).stream()
+                    .map(Item::getId)
+                    .collect(Collectors.toList());
+            refreshNow(batch);
+            rebuilt += batch.size();
+            if (!batch.isEmpty()) afterId = batch.get(batch.size() - 1);
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        log.info("Карточки вещей перестроены: {} вещей", rebuilt);
+        return rebuilt;
+    }
+
+    private void refreshNow(List<Integer> itemIds) {
+        if (itemIds.isEmpty()) return;
+        for (int attempt = 1; attempt <= REFRESH_ATTEMPTS; attempt++) {
+            try {
+                newTransaction.executeWithoutResult(status -> saveFresh(itemIds));
+                return;
+            } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException e) {
+                log.info("Карточки вещей {} изменены параллельно, попытка {} из {}",
+                        itemIds, attempt, REFRESH_ATTEMPTS);
+            }
+        }
+        log.warn("Не удалось обновить карточки вещей {} за {} попыток", itemIds, REFRESH_ATTEMPTS);
+    }
+
+    private void saveFresh(List<Integer> itemIds) {
+        Map<Integer, Integer> versions = itemCardStorage.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(ItemCard::getItemId, ItemCard::getVersion));
+        itemCardStorage.saveAll(buildCards(itemIds, versions));
+    }
+
+    private void saveRefreshed(Collection<ItemCard> cards) {
+        try {
+            newTransaction.executeWithoutResult(status -> itemCardStorage.saveAll(cards));
+            log.info("Сохранены обновленные карточки {} вещей", cards.size());
+        } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException e) {
+            log.info("Карточки вещей были изменены параллельно и не сохранены: {}", e.getMessage());
+        }
+    }
+
+    private List<ItemCard> buildCards(Collection<Integer> itemIds, Map<Integer, Integer> versions) {
+        List<Item> items = itemStorage.findAllById(itemIds);
+        if (items.isEmpty()) return Collections.emptyList();
+        List<Integer> foundIds = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, Booking> lastBookings = bookingStorage.findLastByItemIdIn(foundIds, now).stream()
+                .collect(Collectors.toMap(booking -> booking.getItem().getId(), Function.identity()));
+        Map<Integer, Booking> nextBookings = bookingStorage.findNextByItemIdIn(foundIds, now).stream()
+                .collect(Collectors.toMap(booking -> booking.getItem().getId(), Function.identity()));
+        List<Integer> commentIds = commentStorage.findNewestIdsByItemIdIn(foundIds, COMMENTS_PREVIEW_SIZE);
+        Map<Integer, List<CommentDto>> comments = commentIds.isEmpty()
+                ? Collections.emptyMap()
+                : commentStorage.findByIdInOrderByCreatedDesc(commentIds).stream()
+                        .collect(Collectors.groupingBy(
+                                comment -> comment.getItem().getId(),
+                                Collectors.mapping(
+                                        comment -> commentToDto(comment, comment.getAuthor().getName()),
+                                        Collectors.toList()
+                                )
+                        ));
+        List<Integer> fullPreviewItemIds = comments.entrySet().stream()
+                .filter(entry -> entry.getValue().size() == COMMENTS_PREVIEW_SIZE)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        Map<Integer, Integer> commentCounts = fullPreviewItemIds.isEmpty()
+                ? Collections.emptyMap()
+                : commentStorage.countByItemIdIn(fullPreviewItemIds).stream()
+                        .collect(Collectors.toMap(CommentCount::getItemId, count -> (int) count.getCount()));
+        return items.stream()
+                .map(item -> {
+                    List<CommentDto> itemComments = comments.getOrDefault(item.getId(), Collections.emptyList());
+                    return cardFromItem(
+                            item,
+                            lastBookings.get(item.getId()),
+                            nextBookings.get(item.getId()),
+                            itemComments,
+                            commentCounts.getOrDefault(item.getId(), itemComments.size()),
+                            versions.get(item.getId())
+                    );
+                })
+                .collect(Collectors.toList());
+    }
+}
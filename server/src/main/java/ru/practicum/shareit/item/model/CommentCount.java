@@ -0,0 +1,9 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.Value;
+
+@Value
+public class CommentCount {
+    int itemId;
+    long count;
+}
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+import javax.persistence.AttributeOverride;
+import javax.persistence.AttributeOverrides;
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.OrderColumn;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Entity
+@Table(name = "item_cards")
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemCard {
+    @Id
+    private Integer itemId;
+    private Integer ownerId;
+    private String name;
+    private String description;
+    private Boolean isAvailable;
+    private Integer requestId;
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "id", column = @Column(name = "last_booking_id")),
+            @AttributeOverride(name = "start", column = @Column(name = "last_booking_start")),
+            @AttributeOverride(name = "end", column = @Column(name = "last_booking_end")),
+            @AttributeOverride(name = "bookerId", column = @Column(name = "last_booker_id")),
+            @AttributeOverride(name = "status", column = @Column(name = "last_booking_status"))
+    })
+    private ItemCardBooking lastBooking;
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "id", column = @Column(name = "next_booking_id")),
+            @AttributeOverride(name = "start", column = @Column(name = "next_booking_start")),
+            @AttributeOverride(name = "end", column = @Column(name = "next_booking_end")),
+            @AttributeOverride(name = "bookerId", column = @Column(name = "next_booker_id")),
+            @AttributeOverride(name = "status", column = @Column(name = "next_booking_status"))
+    })
+    private ItemCardBooking nextBooking;
+    private Integer commentCount;
+    @ElementCollection
+    @CollectionTable(name = "item_card_comments", joinColumns = @JoinColumn(name = "item_id"))
+    @OrderColumn(name = "preview_index")
+    @BatchSize(size = 100)
+    private List<ItemCardComment> latestComments;
+    private LocalDateTime refreshAt;
+    @Version
+    private Integer version;
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.time.LocalDateTime;
+
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemCardComment {
+    @Column(name = "comment_id")
+    private Integer id;
+    private String text;
+    private String authorName;
+    private LocalDateTime created;
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareit.item.model;
+
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
+import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ItemCardMapper {
+    public static ItemDto cardToDto(ItemCard card) {
+        return new ItemDto(
+                card.getItemId(),
+                card.getName(),
+                card.getDescription(),
+                card.getIsAvailable(),
+                card.getRequestId(),
+                bookingToDtoDefault(card.getItemId(), card.getLastBooking()),
+                bookingToDtoDefault(card.getItemId(), card.getNextBooking()),
+                card.getLatestComments().stream()
+                        .map(comment -> new CommentDto(
+                                comment.getId(),
+                                comment.getText(),
+                                comment.getAuthorName(),
+                                comment.getCreated()
+                        ))
+                        .collect(Collectors.toList()),
+                card.getCommentCount()
+        );
+    }
+
+    public static ItemCard cardFromItem(
+            Item item,
+            Booking last,
+            Booking next,
+            List<CommentDto> comments,
+            int commentCount,
+            Integer version
+    ) {
+        return new ItemCard(
+                item.getId(),
+                item.getOwner().getId(),
+                item.getName(),
+                item.getDescription(),
+                item.getIsAvailable(),
+                item.getRequest() == null ? null : item.getRequest().getId(),
+                bookingToCard(last),
+                bookingToCard(next),
+                commentCount,
+                comments.stream()
+                        .map(comment -> new ItemCardComment(
+                                comment.getId(),
+                                comment.getText(),
+                                comment.getAuthorName(),
+                                comment.getCreated()
+                        ))
+                        .collect(Collectors.toList()),
+                next == null ? null : next.getStart(),
+                version
+        );
+    }
+
+    private static ItemCardBooking bookingToCard(Booking booking) {
+        if (booking == null) return null;
+        return new ItemCardBooking(
+                booking.getId(),
+                booking.getStart(),
+                booking.getEnd(),
+                booking.getBooker().getId(),
+                booking.getStatus()
+        );
+    }
+
+    private static BookingDtoDefault bookingToDtoDefault(int itemId, ItemCardBooking booking) {
+        if (booking == null) return null;
+        return new BookingDtoDefault(
+                booking.getId(),
+                booking.getStart(),
+                booking.getEnd(),
+                itemId,
+                booking.getBookerId(),
+                booking.getStatus()
+        );
+    }
+}
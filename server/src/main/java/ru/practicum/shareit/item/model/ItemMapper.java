@@ -12,6 +12,16 @@ import static ru.practicum.shareit.booking.model.BookingMapper.bookingToDtoDefau
 
 public class ItemMapper {
     public static ItemDto itemToDto(Item item, Booking last, Booking next, List<CommentDto> comments) {
+        return itemToDto(item, last, next, comments, null);
+    }
+
+    public static ItemDto itemToDto(
+            Item item,
+            Booking last,
+            Booking next,
+            List<CommentDto> comments,
+            Integer commentCount
+    ) {
         return new ItemDto(
                 item.getId(),
                 item.getName(),
@@ -20,7 +30,22 @@ public class ItemMapper {
                 item.getRequest() == null ? null : item.getRequest().getId(),
                 last == null ? null : bookingToDtoDefault(last),
                 next == null ? null : bookingToDtoDefault(next),
-                comments
+                comments,
+                commentCount
+        );
+    }
+
+    public static ItemDto itemToDto(ItemSummary item) {
+        return new ItemDto(
+                item.getId(),
+                item.getName(),
+                item.getDescription(),
+                item.getIsAvailable(),
+                item.getRequestId(),
+                null,
+                null,
+                null,
+                null
         );
     }
 
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.Value;
+
+@Value
+public class ItemSummary {
+    Integer id;
+    String name;
+    String description;
+    Boolean isAvailable;
+    Integer requestId;
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.model.dto;
+
+import lombok.Data;
+import ru.practicum.shareit.booking.availability.BookingInterval;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class ItemAvailabilityDto {
+    private final int itemId;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final boolean available;
+    private final List<BookingInterval> bookings;
+}
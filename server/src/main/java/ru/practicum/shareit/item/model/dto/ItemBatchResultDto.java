@@ -0,0 +1,10 @@
+package ru.practicum.shareit.item.model.dto;
+
+import lombok.Data;
+
+@Data
+public class ItemBatchResultDto {
+    private final int index;
+    private final ItemDto item;
+    private final String error;
+}
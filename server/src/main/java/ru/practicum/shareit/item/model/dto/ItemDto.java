@@ -5,18 +5,27 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
 
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 import java.util.List;
 
 @Data
 @AllArgsConstructor
 public class ItemDto {
     private Integer id;
+    @NotBlank(message = "Имя вещи не может быть пустым")
+    @Size(max = 128, message = "Имя вещи не может быть длиннее 128 символов")
     private final String name;
+    @NotBlank(message = "Описание вещи не может быть пустым")
+    @Size(max = 1000, message = "Описание вещи не может быть длиннее 1000 символов")
     private final String description;
     @JsonProperty("available")
+    @NotNull(message = "Должна быть указана доступность вещи")
     private final Boolean isAvailable;
     private final Integer requestId;
     private final BookingDtoDefault lastBooking;
     private final BookingDtoDefault nextBooking;
     private final List<CommentDto> comments;
+    private final Integer commentCount;
 }
\ No newline at end of file
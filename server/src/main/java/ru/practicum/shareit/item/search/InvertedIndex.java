@@ -0,0 +1,151 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+class InvertedIndex {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final long TOKEN_OVERHEAD_BYTES = 96;
+    private static final long DOCUMENT_OVERHEAD_BYTES = 128;
+    private static final int RANKS = 4;
+
+    private final NavigableMap<String, Postings> postings = new TreeMap<>();
+    private final Map<Integer, ItemDto> documents = new HashMap<>();
+    private final BitSet available = new BitSet();
+    private volatile int items;
+    private volatile int tokens;
+    private volatile long postingsCount;
+    private volatile long estimatedBytes;
+
+    void put(ItemDto document) {
+        delete(document.getId());
+        int id = document.getId();
+        documents.put(id, document);
+        available.set(id, Boolean.TRUE.equals(document.getIsAvailable()));
+        long bytes = estimatedBytes + documentBytes(document);
+        for (String token : tokenize(document.getName(), document.getDescription())) {
+            Postings tokenPostings = postings.get(token);
+            if (tokenPostings == null) {
+                tokenPostings = new Postings();
+                postings.put(token, tokenPostings);
+                bytes += tokenBytes(token) + tokenPostings.estimatedBytes();
+            }
+            bytes -= tokenPostings.estimatedBytes();
+            tokenPostings.add(id);
+            bytes += tokenPostings.estimatedBytes();
+            postingsCount++;
+        }
+        estimatedBytes = bytes;
+        updateCounters();
+    }
+
+    void delete(int itemId) {
+        ItemDto document = documents.remove(itemId);
+        if (document == null) return;
+        available.clear(itemId);
+        long bytes = estimatedBytes - documentBytes(document);
+        for (String token : tokenize(document.getName(), document.getDescription())) {
+            Postings tokenPostings = postings.get(token);
+            if (tokenPostings == null) continue;
+            tokenPostings.remove(itemId);
+            postingsCount--;
+            if (tokenPostings.isEmpty()) {
+                postings.remove(token);
+                bytes -= tokenBytes(token) + tokenPostings.estimatedBytes();
+            }
+        }
+        estimatedBytes = bytes;
+        updateCounters();
+    }
+
+    List<ItemDto> search(String text, Set<String> queryTokens, int from, int size) {
+        BitSet matches = (BitSet) available.clone();
+        for (String queryToken : queryTokens) {
+            BitSet tokenMatches = new BitSet();
+            postings.subMap(queryToken, true, queryToken + Character.MAX_VALUE, false).values()
+                    .forEach(tokenPostings -> tokenPostings.orInto(tokenMatches));
+            matches.and(tokenMatches);
+        }
+        String query = text.toLowerCase(Locale.ROOT);
+        int limit = from + size;
+        List<List<ItemDto>> ranks = new ArrayList<>(RANKS);
+        for (int rank = 0; rank < RANKS; rank++) {
+            ranks.add(new ArrayList<>());
+        }
+        for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+            ItemDto document = documents.get(id);
+            List<ItemDto> ranked = ranks.get(rank(document.getName().toLowerCase(Locale.ROOT), query));
+            if (ranked.size() < limit) ranked.add(document);
+        }
+        return ranks.stream()
+                .flatMap(List::stream)
+                .skip(from)
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    void trim() {
+        long bytes = estimatedBytes;
+        for (Postings tokenPostings : postings.values()) {
+            bytes -= tokenPostings.estimatedBytes();
+            tokenPostings.trim();
+            bytes += tokenPostings.estimatedBytes();
+        }
+        estimatedBytes = bytes;
+    }
+
+    int getItems() {
+        return items;
+    }
+
+    int getTokens() {
+        return tokens;
+    }
+
+    long getPostingsCount() {
+        return postingsCount;
+    }
+
+    long getEstimatedBytes() {
+        return estimatedBytes + available.size() / 8;
+    }
+
+    static Set<String> tokenize(String... texts) {
+        return Arrays.stream(texts)
+                .flatMap(text -> Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private static int rank(String name, String query) {
+        if (name.equals(query)) return 0;
+        if (name.startsWith(query)) return 1;
+        if (name.contains(query)) return 2;
+        return 3;
+    }
+
+    private static long tokenBytes(String token) {
+        return TOKEN_OVERHEAD_BYTES + 2L * token.length();
+    }
+
+    private static long documentBytes(ItemDto document) {
+        return DOCUMENT_OVERHEAD_BYTES + 2L * (document.getName().length() + document.getDescription().length());
+    }
+
+    private void updateCounters() {
+        items = documents.size();
+        tokens = postings.size();
+    }
+}
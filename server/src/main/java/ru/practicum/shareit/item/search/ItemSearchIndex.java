@@ -0,0 +1,144 @@
+package ru.practicum.shareit.item.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+import ru.practicum.shareit.item.storage.ItemStorage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import static ru.practicum.shareit.item.model.ItemMapper.itemToDto;
+import static ru.practicum.shareit.transaction.TransactionHooks.afterCommit;
+
+@Component
+@Slf4j
+public class ItemSearchIndex implements MeterBinder {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final ItemStorage itemStorage;
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+    private volatile InvertedIndex index = new InvertedIndex();
+    private List<Consumer<InvertedIndex>> pendingChanges;
+
+    public ItemSearchIndex(ItemStorage itemStorage, @Value("${shareit.item-search.in-memory:false}") boolean enabled) {
+        this.itemStorage = itemStorage;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) return;
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            InvertedIndex rebuilt = new InvertedIndex();
+            int afterId = 0;
+            List<Item> batch;
+            do {
+                batch = itemStorage.findByIdGreaterThanOrderById(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                batch.forEach(item -> rebuilt.put(itemToDto(item, null, null, null)));
+                if (!batch.isEmpty()) afterId = batch.get(batch.size() - 1).getId();
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            lock.writeLock().lock();
+            try {
+                pendingChanges.forEach(change -> change.accept(rebuilt));
+                pendingChanges = null;
+                rebuilt.trim();
+                index = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Индекс поиска вещей перестроен: {} вещей, {} токенов", rebuilt.getItems(), rebuilt.getTokens());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public void index(Item item) {
+        if (!enabled) return;
+        ItemDto document = itemToDto(item, null, null, null);
+        afterCommit(() -> apply(target -> target.put(document)));
+    }
+
+    public void remove(int itemId) {
+        if (!enabled) return;
+        afterCommit(() -> apply(target -> target.delete(itemId)));
+    }
+
+    public List<ItemDto> search(String text, int from, int size) {
+        Set<String> queryTokens = InvertedIndex.tokenize(text);
+        if (queryTokens.isEmpty()) return Collections.emptyList();
+        lock.readLock().lock();
+        try {
+            return index.search(text, queryTokens, from, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ItemSearchIndexStats getStats() {
+        InvertedIndex current = index;
+        return new ItemSearchIndexStats(
+                enabled,
+                current.getItems(),
+                current.getTokens(),
+                current.getPostingsCount(),
+                current.getEstimatedBytes()
+        );
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("shareit.item.search.index.items", this, searchIndex -> searchIndex.index.getItems())
+                .description("Количество вещей в индексе поиска")
+                .register(registry);
+        Gauge.builder("shareit.item.search.index.tokens", this, searchIndex -> searchIndex.index.getTokens())
+                .description("Количество токенов в индексе поиска")
+                .register(registry);
+        Gauge.builder("shareit.item.search.index.postings", this, searchIndex -> searchIndex.index.getPostingsCount())
+                .description("Количество вхождений токенов в индексе поиска")
+                .register(registry);
+        Gauge.builder("shareit.item.search.index.estimated", this, searchIndex -> searchIndex.index.getEstimatedBytes())
+                .description("Оценка памяти, занимаемой индексом поиска")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+
+    private void apply(Consumer<InvertedIndex> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (pendingChanges != null) pendingChanges.add(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
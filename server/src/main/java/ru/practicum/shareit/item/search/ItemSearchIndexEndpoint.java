@@ -0,0 +1,25 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "itemsearch")
+@RequiredArgsConstructor
+public class ItemSearchIndexEndpoint {
+    private final ItemSearchIndex itemSearchIndex;
+
+    @ReadOperation
+    public ItemSearchIndexStats getStats() {
+        return itemSearchIndex.getStats();
+    }
+
+    @WriteOperation
+    public ItemSearchIndexStats rebuild() {
+        itemSearchIndex.rebuild();
+        return itemSearchIndex.getStats();
+    }
+}
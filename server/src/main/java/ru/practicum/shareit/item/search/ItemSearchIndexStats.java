@@ -0,0 +1,12 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.Data;
+
+@Data
+public class ItemSearchIndexStats {
+    private final boolean enabled;
+    private final int items;
+    private final int tokens;
+    private final long postings;
+    private final long estimatedBytes;
+}
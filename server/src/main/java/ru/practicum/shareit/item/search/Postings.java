@@ -0,0 +1,59 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+class Postings {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    void add(int id) {
+        if (size == 0 || ids[size - 1] < id) {
+            grow();
+            ids[size++] = id;
+            return;
+        }
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) return;
+        int insertion = -position - 1;
+        grow();
+        System.arraycopy(ids, insertion, ids, insertion + 1, size - insertion);
+        ids[insertion] = id;
+        size++;
+    }
+
+    void remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) return;
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+
+    void orInto(BitSet bitSet) {
+        for (int i = 0; i < size; i++) {
+            bitSet.set(ids[i]);
+        }
+    }
+
+    void trim() {
+        if (ids.length > size) ids = Arrays.copyOf(ids, size);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long estimatedBytes() {
+        return 16L + 16L + 4L * ids.length;
+    }
+
+    private void grow() {
+        if (size == ids.length) ids = Arrays.copyOf(ids, Math.max(INITIAL_CAPACITY, size + (size >> 1)));
+    }
+}
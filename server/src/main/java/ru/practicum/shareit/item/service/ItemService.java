@@ -1,8 +1,12 @@
 package ru.practicum.shareit.item.service;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.model.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.model.dto.ItemBatchResultDto;
 import ru.practicum.shareit.item.model.dto.ItemDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
@@ -10,13 +14,21 @@ public interface ItemService {
 
     List<ItemDto> getItemsByUserId(int userId, int from, int size);
 
+    Slice<ItemDto> getItemsByUserIdAfter(int userId, String after, int size);
+
     ItemDto addItem(int userId, ItemDto itemDto);
 
+    List<ItemBatchResultDto> addItems(int userId, List<ItemDto> itemDtos);
+
     ItemDto updateItem(int userId, ItemDto itemDto);
 
     void deleteItem(int userId, int itemId);
 
+    ItemAvailabilityDto getItemAvailability(int itemId, LocalDateTime from, LocalDateTime to);
+
     List<ItemDto> findItems(String text, int from, int size);
 
     CommentDto addComment(int userId, int itemId, CommentDto commentDto);
+
+    List<CommentDto> getComments(int itemId, int from, int size);
 }
\ No newline at end of file
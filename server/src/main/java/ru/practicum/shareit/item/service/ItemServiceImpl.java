@@ -3,34 +3,58 @@ package ru.practicum.shareit.item.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.shareit.booking.model.Booking;
-import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.availability.ItemAvailabilityIndex;
+import ru.practicum.shareit.booking.model.BookingMapper;
+import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
 import ru.practicum.shareit.booking.storage.BookingStorage;
 import ru.practicum.shareit.exception.BookingEndTimeException;
 import ru.practicum.shareit.exception.ItemNotFoundException;
 import ru.practicum.shareit.exception.ItemOwnerException;
 import ru.practicum.shareit.exception.ItemRequestNotFoundException;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.cache.ItemView;
+import ru.practicum.shareit.item.cache.ItemViewCache;
+import ru.practicum.shareit.item.card.ItemCardRefresher;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.model.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.model.dto.ItemBatchResultDto;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemCard;
+import ru.practicum.shareit.item.model.ItemCardMapper;
+import ru.practicum.shareit.item.model.ItemMapper;
 import ru.practicum.shareit.item.model.dto.ItemDto;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.item.storage.CommentStorage;
+import ru.practicum.shareit.item.storage.ItemCardStorage;
 import ru.practicum.shareit.item.storage.ItemStorage;
 import ru.practicum.shareit.itemrequest.model.ItemRequest;
 import ru.practicum.shareit.itemrequest.storage.ItemRequestStorage;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.user.cache.UserExistenceCache;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserStorage;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static ru.practicum.shareit.item.card.ItemCardRefresher.COMMENTS_PREVIEW_SIZE;
 import static ru.practicum.shareit.item.model.CommentMapper.commentFromDto;
 import static ru.practicum.shareit.item.model.CommentMapper.commentToDto;
 import static ru.practicum.shareit.item.model.ItemMapper.itemFromDto;
@@ -42,69 +66,51 @@ import static ru.practicum.shareit.item.model.ItemMapper.itemToDto;
 public class ItemServiceImpl implements ItemService {
     private final ItemStorage itemStorage;
     private final UserStorage userStorage;
+    private final UserExistenceCache userExistenceCache;
     private final BookingStorage bookingStorage;
     private final CommentStorage commentStorage;
     private final ItemRequestStorage itemRequestStorage;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemAvailabilityIndex itemAvailabilityIndex;
+    private final ItemViewCache itemViewCache;
+    private final ItemCardStorage itemCardStorage;
+    private final ItemCardRefresher itemCardRefresher;
+    private final Validator validator;
 
     @Override
-    @Transactional(readOnly = true)
     public ItemDto getItemById(int userId, int itemId) {
-        Optional<Item> itemOptional = itemStorage.findById(itemId);
-        if (itemOptional.isEmpty()) throw new ItemNotFoundException("Вещь с id=" + itemId + " не найдена");
-        Item item = itemOptional.get();
-        Booking last = null;
-        Booking next = null;
-        if (item.getOwner().getId() == userId) {
-            LocalDateTime now = LocalDateTime.now();
-            last = bookingStorage.findFirstByItemIdAndStatusNotAndStartBeforeOrderByStartDesc(
-                    itemId,
-                    BookingStatus.REJECTED,
-                    now
-            );
-            next = bookingStorage.findFirstByItemIdAndStatusNotAndStartAfterOrderByStartAsc(
-                    itemId,
-                    BookingStatus.REJECTED,
-                    now
-            );
-        }
-        List<CommentDto> comments = commentStorage.findByItemIdOrderByCreatedDesc(itemId).stream()
-                .map(comment -> commentToDto(comment, comment.getAuthor().getName()))
-                .collect(Collectors.toList());
-        log.info("Запрошена вещь {}", item);
-        return itemToDto(item, last, next, comments);
+        ItemView view = itemViewCache.getPublicView(itemId, this::loadPublicView);
+        log.info("Запрошена вещь с id={}", itemId);
+        if (view.getOwnerId() != userId) return view.getItem();
+        return itemViewCache.getOwnerView(itemId, id -> loadOwnerView(view.getItem()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ItemDto> getItemsByUserId(int userId, int from, int size) {
-        if (!userStorage.existsById(userId))
+        if (!userExistenceCache.exists(userId))
             throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
         log.info("Запрошен список вещей пользователя с id={}", userId);
-        return itemStorage.findByOwnerIdOrderById(userId, getPageable(from, size)).stream()
-                .map(item -> {
-                    LocalDateTime now = LocalDateTime.now();
-                    return itemToDto(
-                            item,
-                            bookingStorage.findFirstByItemIdAndStatusNotAndStartBeforeOrderByStartDesc(
-                                    item.getId(),
-                                    BookingStatus.REJECTED,
-                                    now
-                            ),
-                            bookingStorage.findFirstByItemIdAndStatusNotAndStartAfterOrderByStartAsc(
-                                    item.getId(),
-                                    BookingStatus.REJECTED,
-                                    now
-                            ),
-                            commentStorage.findByItemIdOrderByCreatedDesc(item.getId()).stream()
-                                    .map(comment -> commentToDto(comment, comment.getAuthor().getName()))
-                                    .collect(Collectors.toList())
-                    );
-                }
-                )
-                .collect(Collectors.toList());
+        return cardsToDto(itemCardStorage.findByOwnerIdOrderByItemId(userId, OffsetPageRequest.of(from, size)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ItemDto> getItemsByUserIdAfter(int userId, String after, int size) {
+        if (!userExistenceCache.exists(userId))
+            throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
+        PageCursor cursor = PageCursor.decode(after);
+        log.info("Запрошен список вещей пользователя с id={} после курсора {}", userId, cursor);
+        Slice<ItemCard> cards = itemCardStorage.findByOwnerIdAndItemIdGreaterThanOrderByItemId(
+                userId,
+                cursor.getId(),
+                PageRequest.of(0, size)
+        );
+        return new SliceImpl<>(cardsToDto(cards.getContent()), cards.getPageable(), cards.hasNext());
     }
 
     @Override
+    @Transactional
     public ItemDto addItem(int userId, ItemDto itemDto) {
         Optional<User> userOptional = userStorage.findById(userId);
         if (userOptional.isEmpty()) throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
@@ -121,11 +127,61 @@ public class ItemServiceImpl implements ItemService {
         Item item = itemStorage.save(
                 itemFromDto(itemDto, userOptional.get(), itemRequest)
         );
+        itemSearchIndex.index(item);
+        itemCardRefresher.create(List.of(item));
         log.info("Добавлена вещь {}", item);
         return itemToDto(item, null, null, null);
     }
 
     @Override
+    @Transactional
+    public List<ItemBatchResultDto> addItems(int userId, List<ItemDto> itemDtos) {
+        Optional<User> userOptional = userStorage.findById(userId);
+        if (userOptional.isEmpty()) throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
+        User owner = userOptional.get();
+
+        Set<Integer> requestIds = itemDtos.stream()
+                .filter(Objects::nonNull)
+                .map(ItemDto::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Integer, ItemRequest> itemRequests = requestIds.isEmpty() ?
+                Collections.emptyMap() :
+                itemRequestStorage.findAllById(requestIds).stream()
+                        .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+
+        ItemBatchResultDto[] results = new ItemBatchResultDto[itemDtos.size()];
+        List<Integer> indexes = new ArrayList<>();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < itemDtos.size(); i++) {
+            ItemDto itemDto = itemDtos.get(i);
+            String error = validateBatchItem(itemDto);
+            if (error != null) {
+                results[i] = new ItemBatchResultDto(i, null, error);
+                continue;
+            }
+            Integer requestId = itemDto.getRequestId();
+            if (requestId != null && !itemRequests.containsKey(requestId)) {
+                results[i] = new ItemBatchResultDto(i, null, "Запрос с id=" + requestId + " не найден");
+                continue;
+            }
+            indexes.add(i);
+            items.add(itemFromDto(itemDto, owner, requestId == null ? null : itemRequests.get(requestId)));
+        }
+
+        List<Item> savedItems = itemStorage.saveAll(items);
+        itemCardRefresher.create(savedItems);
+        for (int i = 0; i < savedItems.size(); i++) {
+            Item item = savedItems.get(i);
+            itemSearchIndex.index(item);
+            results[indexes.get(i)] = new ItemBatchResultDto(indexes.get(i), itemToDto(item, null, null, null), null);
+        }
+        log.info("Пользователь с id={} добавил {} вещей из {}", userId, savedItems.size(), itemDtos.size());
+        return Arrays.asList(results);
+    }
+
+    @Override
+    @Transactional
     public ItemDto updateItem(int userId, ItemDto itemDto) {
         int itemId = itemDto.getId();
         Optional<Item> itemOptional = itemStorage.findById(itemId);
@@ -152,29 +208,52 @@ public class ItemServiceImpl implements ItemService {
         if (updateItem.getIsAvailable() == null) updateItem.setIsAvailable(oldItem.getIsAvailable());
 
         Item item = itemStorage.save(updateItem);
+        itemSearchIndex.index(item);
+        itemCardRefresher.markStale(itemId);
+        itemViewCache.evict(itemId);
         log.info("Обновлена вещь {}", item);
         return itemToDto(item, null, null, null);
     }
 
     @Override
     public void deleteItem(int userId, int itemId) {
-        if (!userStorage.existsById(userId))
+        if (!userExistenceCache.exists(userId))
             throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
         itemStorage.deleteById(itemId);
+        itemSearchIndex.remove(itemId);
+        itemAvailabilityIndex.evict(itemId);
+        itemViewCache.evict(itemId);
         log.info("Удалена вещь c id={}", itemId);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public ItemAvailabilityDto getItemAvailability(int itemId, LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from))
+            throw new BookingEndTimeException("Конец периода должен быть позже начала");
+        if (!itemAvailabilityIndex.contains(itemId) && !itemStorage.existsById(itemId))
+            throw new ItemNotFoundException("Вещь с id=" + itemId + " не найдена");
+        log.info("Запрошена занятость вещи с id={} с {} по {}", itemId, from, to);
+        return new ItemAvailabilityDto(
+                itemId,
+                from,
+                to,
+                !itemAvailabilityIndex.hasApprovedOverlap(itemId, from, to),
+                itemAvailabilityIndex.getBookings(itemId, from, to)
+        );
+    }
+
+    @Override
     public List<ItemDto> findItems(String text, int from, int size) {
         if (text.isBlank()) return Collections.emptyList();
         log.info("Запрошен поиск по тексту '{}'", text);
-        return itemStorage.findByText(text, getPageable(from, size)).stream()
-                .map(item -> itemToDto(item, null, null, null))
+        if (itemSearchIndex.isEnabled()) return itemSearchIndex.search(text, from, size);
+        return itemStorage.findByText(text, OffsetPageRequest.of(from, size)).stream()
+                .map(ItemMapper::itemToDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public CommentDto addComment(int userId, int itemId, CommentDto commentDto) {
         Optional<User> authorOptional = userStorage.findById(userId);
         if (authorOptional.isEmpty()) throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
@@ -185,12 +264,74 @@ public class ItemServiceImpl implements ItemService {
         if (!bookingStorage.existsByBookerIdAndItemIdAndEndBefore(userId, itemId, LocalDateTime.now()))
             throw new BookingEndTimeException("Бронирование еще не завершилось");
         Comment comment = commentStorage.save(commentFromDto(commentDto, item, author));
+        itemCardRefresher.markStale(itemId);
+        itemViewCache.evict(itemId);
         log.info("Добавлен комментарий '{}'", comment);
         return commentToDto(comment, author.getName());
     }
 
-    private Pageable getPageable(int from, int size) {
-        int page = from / size;
-        return PageRequest.of(page, size);
+    @Override
+    public List<CommentDto> getComments(int itemId, int from, int size) {
+        if (!itemStorage.existsById(itemId)) throw new ItemNotFoundException("Вещь с id=" + itemId + " не найдена");
+        log.info("Запрошены комментарии к вещи с id={}", itemId);
+        return commentStorage.findByItemIdOrderByCreatedDesc(itemId, OffsetPageRequest.of(from, size)).stream()
+                .map(comment -> commentToDto(comment, comment.getAuthor().getName()))
+                .collect(Collectors.toList());
+    }
+
+    private ItemView loadPublicView(int itemId) {
+        Optional<Item> itemOptional = itemStorage.findById(itemId);
+        if (itemOptional.isEmpty()) throw new ItemNotFoundException("Вещь с id=" + itemId + " не найдена");
+        Item item = itemOptional.get();
+        List<CommentDto> comments = commentStorage.findByItemIdOrderByCreatedDesc(
+                        itemId,
+                        PageRequest.of(0, COMMENTS_PREVIEW_SIZE)
+                ).stream()
+                .map(comment -> commentToDto(comment, comment.getAuthor().getName()))
+                .collect(Collectors.toList());
+        int commentCount = comments.size() < COMMENTS_PREVIEW_SIZE
+                ? comments.size()
+                : (int) commentStorage.countByItemId(itemId);
+        return new ItemView(item.getOwner().getId(), itemToDto(item, null, null, comments, commentCount));
+    }
+
+    private ItemDto loadOwnerView(ItemDto item) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> itemIds = List.of(item.getId());
+        BookingDtoDefault last = bookingStorage.findLastByItemIdIn(itemIds, now).stream()
+                .findFirst()
+                .map(BookingMapper::bookingToDtoDefault)
+                .orElse(null);
+        BookingDtoDefault next = bookingStorage.findNextByItemIdIn(itemIds, now).stream()
+                .findFirst()
+                .map(BookingMapper::bookingToDtoDefault)
+                .orElse(null);
+        return new ItemDto(
+                item.getId(),
+                item.getName(),
+                item.getDescription(),
+                item.getIsAvailable(),
+                item.getRequestId(),
+                last,
+                next,
+                item.getComments(),
+                item.getCommentCount()
+        );
+    }
+
+    private String validateBatchItem(ItemDto itemDto) {
+        if (itemDto == null) return "Вещь не может быть пустой";
+        Set<ConstraintViolation<ItemDto>> violations = validator.validate(itemDto);
+        if (violations.isEmpty()) return null;
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private List<ItemDto> cardsToDto(List<ItemCard> cards) {
+        return itemCardRefresher.refreshStale(cards).stream()
+                .map(ItemCardMapper::cardToDto)
+                .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
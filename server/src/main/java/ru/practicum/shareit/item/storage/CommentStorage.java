@@ -1,10 +1,50 @@
 package ru.practicum.shareit.item.storage;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.CommentCount;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentStorage extends JpaRepository<Comment, Integer> {
-    List<Comment> findByItemIdOrderByCreatedDesc(int itemId);
+    @Query("select c " +
+            "from Comment as c " +
+            "join fetch c.author " +
+            "where c.item.id = ?1 " +
+            "order by c.created desc, c.id desc")
+    List<Comment> findByItemIdOrderByCreatedDesc(int itemId, Pageable pageable);
+
+    @Query(value = "select t.id " +
+            "from (" +
+            "select c.id, " +
+            "row_number() over (partition by c.item_id order by c.created desc, c.id desc) as rn " +
+            "from comments as c " +
+            "where c.item_id in ?1" +
+            ") as t " +
+            "where t.rn <= ?2",
+            nativeQuery = true)
+    List<Integer> findNewestIdsByItemIdIn(Collection<Integer> itemIds, int limit);
+
+    @Query("select c " +
+            "from Comment as c " +
+            "join fetch c.author " +
+            "where c.id in ?1 " +
+            "order by c.created desc, c.id desc")
+    List<Comment> findByIdInOrderByCreatedDesc(Collection<Integer> ids);
+
+    long countByItemId(int itemId);
+
+    @Query("select new ru.practicum.shareit.item.model.CommentCount(c.item.id, count(c)) " +
+            "from Comment as c " +
+            "where c.item.id in ?1 " +
+            "group by c.item.id")
+    List<CommentCount> countByItemIdIn(Collection<Integer> itemIds);
+
+    @Query("select distinct c.item.id " +
+            "from Comment as c " +
+            "where c.author.id = ?1")
+    List<Integer> findItemIdsByAuthorId(int authorId);
 }
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.item.storage;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.item.model.ItemCard;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ItemCardStorage extends JpaRepository<ItemCard, Integer> {
+    List<ItemCard> findByOwnerIdOrderByItemId(int ownerId, Pageable pageable);
+
+    Slice<ItemCard> findByOwnerIdAndItemIdGreaterThanOrderByItemId(int ownerId, int afterItemId, Pageable pageable);
+
+    @Modifying
+    @Query("update ItemCard as c " +
+            "set c.refreshAt = ?2, c.version = c.version + 1 " +
+            "where c.itemId in ?1")
+    int markStale(Collection<Integer> itemIds, LocalDateTime refreshAt);
+}
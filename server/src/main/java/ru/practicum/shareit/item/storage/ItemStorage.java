@@ -1,21 +1,49 @@
 package ru.practicum.shareit.item.storage;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSummary;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemStorage extends JpaRepository<Item, Integer> {
-    List<Item> findByOwnerIdOrderById(int userId, Pageable pageable);
-
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select it " +
+            "from Item as it " +
+            "where it.id = ?1")
+    Optional<Item> findByIdForUpdate(int itemId);
+
+    @Query("select new ru.practicum.shareit.item.model.ItemSummary(" +
+            "it.id, it.name, it.description, it.isAvailable, it.request.id) " +
             "from Item as it " +
             "where (lower(it.name) like lower(concat('%', ?1,'%')) " +
             "or lower(it.description) like lower(concat('%', ?1,'%'))) " +
-            "and it.isAvailable = TRUE")
-    List<Item> findByText(String text, Pageable pageable);
+            "and it.isAvailable = TRUE " +
+            "order by case " +
+            "when lower(it.name) = lower(?1) then 0 " +
+            "when lower(it.name) like lower(concat(?1, '%')) then 1 " +
+            "when lower(it.name) like lower(concat('%', ?1, '%')) then 2 " +
+            "else 3 end, it.id")
+    List<ItemSummary> findByText(String text, Pageable pageable);
+
+    @EntityGraph(attributePaths = "request")
+    List<Item> findByIdGreaterThanOrderById(int afterId, Pageable pageable);
 
+    @Query("select it " +
+            "from Item as it " +
+            "where it.request.id = ?1")
     List<Item> findByRequestId(int requestId);
+
+    @Query("select new ru.practicum.shareit.item.model.ItemSummary(" +
+            "it.id, it.name, it.description, it.isAvailable, it.request.id) " +
+            "from Item as it " +
+            "where it.request.id in ?1")
+    List<ItemSummary> findByRequestIdIn(Collection<Integer> requestIds);
 }
\ No newline at end of file
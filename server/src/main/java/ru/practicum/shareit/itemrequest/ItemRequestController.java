@@ -1,6 +1,7 @@
 package ru.practicum.shareit.itemrequest;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,8 +13,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.itemrequest.model.ItemRequestDto;
 import ru.practicum.shareit.itemrequest.service.ItemRequestService;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.util.List;
+import java.util.function.Function;
+
+import static ru.practicum.shareit.pagination.PageCursor.withNextCursor;
 
 @RestController
 @RequestMapping(path = "/requests")
@@ -38,12 +43,18 @@ public class ItemRequestController {
     }
 
     @GetMapping(path = "/all")
-    public List<ItemRequestDto> getAllItemRequests(
+    public ResponseEntity<List<ItemRequestDto>> getAllItemRequests(
             @RequestHeader(USER_ID_HEADER) int userId,
             @RequestParam(defaultValue = "0") int from,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after
     ) {
-        return itemRequestService.getAllItemRequests(userId, from, size);
+        Function<ItemRequestDto, String> cursor =
+                itemRequest -> PageCursor.encode(itemRequest.getCreated(), itemRequest.getId());
+        if (after != null) {
+            return withNextCursor(itemRequestService.getAllItemRequestsAfter(userId, after, size), cursor);
+        }
+        return withNextCursor(itemRequestService.getAllItemRequests(userId, from, size), size, cursor);
     }
 
     @GetMapping("/{requestId}")
@@ -1,9 +1,12 @@
 package ru.practicum.shareit.itemrequest.model;
 
+import ru.practicum.shareit.item.model.ItemMapper;
+import ru.practicum.shareit.item.model.ItemSummary;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.item.model.ItemMapper.itemToDto;
@@ -22,6 +25,17 @@ public class ItemRequestMapper {
         );
     }
 
+    public static ItemRequestDto itemRequestToDto(ItemRequestSummary itemRequest, List<ItemSummary> items) {
+        return new ItemRequestDto(
+                itemRequest.getId(),
+                itemRequest.getDescription(),
+                itemRequest.getCreated(),
+                items.stream()
+                        .map(ItemMapper::itemToDto)
+                        .collect(Collectors.toList())
+        );
+    }
+
     public static ItemRequest itemRequestFromDto(ItemRequestDto itemRequestDto, User requestor) {
         return new ItemRequest(
                 itemRequestDto.getId(),
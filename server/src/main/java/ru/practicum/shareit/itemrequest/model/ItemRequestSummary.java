@@ -0,0 +1,12 @@
+package ru.practicum.shareit.itemrequest.model;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+public class ItemRequestSummary {
+    Integer id;
+    String description;
+    LocalDateTime created;
+}
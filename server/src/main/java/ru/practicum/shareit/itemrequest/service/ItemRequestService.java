@@ -1,5 +1,6 @@
 package ru.practicum.shareit.itemrequest.service;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.itemrequest.model.ItemRequestDto;
 
 import java.util.List;
@@ -11,5 +12,7 @@ public interface ItemRequestService {
 
     List<ItemRequestDto> getAllItemRequests(int userId, int from, int size);
 
+    Slice<ItemRequestDto> getAllItemRequestsAfter(int userId, String after, int size);
+
     ItemRequestDto getItemRequestById(int userId, int requestId);
 }
\ No newline at end of file
@@ -3,19 +3,28 @@ package ru.practicum.shareit.itemrequest.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.ItemRequestNotFoundException;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.model.ItemSummary;
 import ru.practicum.shareit.item.storage.ItemStorage;
 import ru.practicum.shareit.itemrequest.model.ItemRequest;
 import ru.practicum.shareit.itemrequest.model.ItemRequestDto;
-import ru.practicum.shareit.itemrequest.model.ItemRequestMapper;
+import ru.practicum.shareit.itemrequest.model.ItemRequestSummary;
 import ru.practicum.shareit.itemrequest.storage.ItemRequestStorage;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.user.cache.UserExistenceCache;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserStorage;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -29,6 +38,7 @@ import static ru.practicum.shareit.itemrequest.model.ItemRequestMapper.itemReque
 public class ItemRequestServiceImpl implements ItemRequestService {
     private final ItemRequestStorage itemRequestStorage;
     private final UserStorage userStorage;
+    private final UserExistenceCache userExistenceCache;
     private final ItemStorage itemStorage;
 
     @Override
@@ -43,32 +53,48 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     @Override
     @Transactional(readOnly = true)
     public List<ItemRequestDto> getItemRequestsByUserId(int userId) {
-        if (!userStorage.existsById(userId))
+        if (!userExistenceCache.exists(userId))
             throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
         log.info("Пользователь с id={} запросил свои запросы", userId);
-        return itemRequestStorage.findByRequestorIdOrderByCreatedDesc(userId).stream()
-                .peek(itemRequest -> itemRequest.setItems(itemStorage.findByRequestId(itemRequest.getId())))
-                .map(ItemRequestMapper::itemRequestToDto)
-                .collect(Collectors.toList());
+        return itemRequestsToDto(itemRequestStorage.findByRequestorIdOrderByCreatedDesc(userId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ItemRequestDto> getAllItemRequests(int userId, int from, int size) {
-        if (!userStorage.existsById(userId))
+        if (!userExistenceCache.exists(userId))
             throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
-        int page = from / size;
         log.info("Пользователь с id={} запросил запросы других пользователей", userId);
-        return itemRequestStorage.findByRequestorIdNotOrderByCreatedDesc(userId, PageRequest.of(page, size)).stream()
-                .peek(itemRequest -> itemRequest.setItems(itemStorage.findByRequestId(itemRequest.getId())))
-                .map(ItemRequestMapper::itemRequestToDto)
-                .collect(Collectors.toList());
+        return itemRequestsToDto(itemRequestStorage.findByRequestorIdNotOrderByCreatedDesc(
+                userId,
+                OffsetPageRequest.of(from, size, Sort.by(Sort.Direction.DESC, "id"))
+        ));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ItemRequestDto> getAllItemRequestsAfter(int userId, String after, int size) {
+        if (!userExistenceCache.exists(userId))
+            throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
+        PageCursor cursor = PageCursor.decode(after);
+        log.info("Пользователь с id={} запросил запросы других пользователей после курсора {}", userId, cursor);
+        Slice<ItemRequestSummary> itemRequests = itemRequestStorage.findByRequestorIdNotAfter(
+                userId,
+                cursor.requireTime(),
+                cursor.getId(),
+                PageRequest.of(0, size)
+        );
+        return new SliceImpl<>(
+                itemRequestsToDto(itemRequests.getContent()),
+                itemRequests.getPageable(),
+                itemRequests.hasNext()
+        );
     }
 
     @Override
     @Transactional(readOnly = true)
     public ItemRequestDto getItemRequestById(int userId, int requestId) {
-        if (!userStorage.existsById(userId))
+        if (!userExistenceCache.exists(userId))
             throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
         Optional<ItemRequest> itemRequestOptional = itemRequestStorage.findById(requestId);
         if (itemRequestOptional.isEmpty())
@@ -78,4 +104,19 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         itemRequest.setItems(itemStorage.findByRequestId(requestId));
         return itemRequestToDto(itemRequest);
     }
+
+    private List<ItemRequestDto> itemRequestsToDto(List<ItemRequestSummary> itemRequests) {
+        if (itemRequests.isEmpty()) return Collections.emptyList();
+        List<Integer> requestIds = itemRequests.stream()
+                .map(ItemRequestSummary::getId)
+                .collect(Collectors.toList());
+        Map<Integer, List<ItemSummary>> items = itemStorage.findByRequestIdIn(requestIds).stream()
+                .collect(Collectors.groupingBy(ItemSummary::getRequestId));
+        return itemRequests.stream()
+                .map(itemRequest -> itemRequestToDto(
+                        itemRequest,
+                        items.getOrDefault(itemRequest.getId(), Collections.emptyList())
+                ))
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
@@ -1,13 +1,35 @@
 package ru.practicum.shareit.itemrequest.storage;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.itemrequest.model.ItemRequest;
+import ru.practicum.shareit.itemrequest.model.ItemRequestSummary;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemRequestStorage extends JpaRepository<ItemRequest, Integer> {
-    List<ItemRequest> findByRequestorIdOrderByCreatedDesc(int userId);
+    @Query("select new ru.practicum.shareit.itemrequest.model.ItemRequestSummary(r.id, r.description, r.created) " +
+            "from ItemRequest as r " +
+            "where r.requestor.id = ?1 " +
+            "order by r.created desc")
+    List<ItemRequestSummary> findByRequestorIdOrderByCreatedDesc(int userId);
 
-    List<ItemRequest> findByRequestorIdNotOrderByCreatedDesc(int userId, Pageable pageable);
+    @Query("select new ru.practicum.shareit.itemrequest.model.ItemRequestSummary(r.id, r.description, r.created) " +
+            "from ItemRequest as r " +
+            "where r.requestor.id <> ?1 " +
+            "order by r.created desc")
+    List<ItemRequestSummary> findByRequestorIdNotOrderByCreatedDesc(int userId, Pageable pageable);
+
+    @Query("select new ru.practicum.shareit.itemrequest.model.ItemRequestSummary(r.id, r.description, r.created) " +
+            "from ItemRequest as r " +
+            "where r.requestor.id <> ?1 " +
+            "and (r.created < ?2 or (r.created = ?2 and r.id < ?3)) " +
+            "order by r.created desc, r.id desc")
+    Slice<ItemRequestSummary> findByRequestorIdNotAfter(int userId,
+                                                        LocalDateTime afterCreated,
+                                                        int afterId,
+                                                        Pageable pageable);
 }
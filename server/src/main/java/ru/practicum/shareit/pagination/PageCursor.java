@@ -0,0 +1,64 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.Data;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.exception.PageCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+public class PageCursor {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final LocalDateTime time;
+    private final int id;
+
+    public static String encode(LocalDateTime time, int id) {
+        return encode(time + "," + id);
+    }
+
+    public static String encode(int id) {
+        return encode(String.valueOf(id));
+    }
+
+    public static PageCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",");
+            if (parts.length == 1) return new PageCursor(null, Integer.parseInt(parts[0]));
+            if (parts.length == 2) return new PageCursor(LocalDateTime.parse(parts[0]), Integer.parseInt(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new PageCursorException("Некорректный курсор '" + cursor + "'");
+        }
+        throw new PageCursorException("Некорректный курсор '" + cursor + "'");
+    }
+
+    public LocalDateTime requireTime() {
+        if (time == null) throw new PageCursorException("Курсор не содержит момент времени");
+        return time;
+    }
+
+    public static <T> ResponseEntity<List<T>> withNextCursor(List<T> page, int size, Function<T, String> cursor) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        if (!page.isEmpty() && page.size() == size)
+            responseBuilder.header(NEXT_CURSOR_HEADER, cursor.apply(page.get(page.size() - 1)));
+        return responseBuilder.body(page);
+    }
+
+    public static <T> ResponseEntity<List<T>> withNextCursor(Slice<T> page, Function<T, String> cursor) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        List<T> content = page.getContent();
+        if (page.hasNext())
+            responseBuilder.header(NEXT_CURSOR_HEADER, cursor.apply(content.get(content.size() - 1)));
+        return responseBuilder.body(content);
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
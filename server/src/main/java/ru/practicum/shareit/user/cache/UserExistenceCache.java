@@ -0,0 +1,48 @@
+package ru.practicum.shareit.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.user.storage.UserStorage;
+
+import java.time.Duration;
+
+import static ru.practicum.shareit.transaction.TransactionHooks.afterCommit;
+
+@Component
+public class UserExistenceCache implements MeterBinder {
+    private final UserStorage userStorage;
+    private final Cache<Integer, Boolean> existingUsers;
+
+    public UserExistenceCache(UserStorage userStorage,
+                              @Value("${shareit.user-cache.maximum-size:100000}") long maximumSize,
+                              @Value("${shareit.user-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.userStorage = userStorage;
+        existingUsers = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public boolean exists(int userId) {
+        return existingUsers.get(userId, id -> userStorage.existsById(id) ? Boolean.TRUE : null) != null;
+    }
+
+    public void add(int userId) {
+        afterCommit(() -> existingUsers.put(userId, Boolean.TRUE));
+    }
+
+    public void remove(int userId) {
+        afterCommit(() -> existingUsers.invalidate(userId));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, existingUsers, "user.exists");
+    }
+}
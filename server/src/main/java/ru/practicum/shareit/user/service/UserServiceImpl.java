@@ -7,6 +7,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.UserAlreadyExistsException;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.cache.ItemViewCache;
+import ru.practicum.shareit.item.card.ItemCardRefresher;
+import ru.practicum.shareit.user.cache.UserExistenceCache;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.model.UserDto;
 import ru.practicum.shareit.user.model.UserMapper;
@@ -24,6 +27,9 @@ import static ru.practicum.shareit.user.model.UserMapper.userToDto;
 @Slf4j
 public class UserServiceImpl implements UserService {
     private final UserStorage userStorage;
+    private final UserExistenceCache userExistenceCache;
+    private final ItemCardRefresher itemCardRefresher;
+    private final ItemViewCache itemViewCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -47,9 +53,10 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserDto addUser(UserDto userDto) {
         try {
-            User user = userStorage.save(
+            User user = userStorage.saveAndFlush(
                     userFromDto(userDto)
             );
+            userExistenceCache.add(user.getId());
             log.info("Добавлен пользователь {}", user);
             return userToDto(user);
         } catch (DataIntegrityViolationException e) {
@@ -58,12 +65,14 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public UserDto updateUser(UserDto userDto) {
         try {
             int userId = userDto.getId();
             Optional<User> userOptional = userStorage.findById(userId);
             if (userOptional.isEmpty()) throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
             User oldUser = userOptional.get();
+            String oldName = oldUser.getName();
             User updateUser = userFromDto(userDto);
 
             String email = updateUser.getEmail();
@@ -71,7 +80,10 @@ public class UserServiceImpl implements UserService {
             if (email == null || email.isBlank()) updateUser.setEmail(oldUser.getEmail());
             if (name == null || name.isBlank()) updateUser.setName(oldUser.getName());
 
-            User user = userStorage.save(updateUser);
+            User user = userStorage.saveAndFlush(updateUser);
+            if (!user.getName().equals(oldName)) {
+                itemCardRefresher.markStaleCommentedBy(userId).forEach(itemViewCache::evict);
+            }
             log.info("Обновлен пользователь {}", user);
             return userToDto(user);
         } catch (DataIntegrityViolationException e) {
@@ -82,6 +94,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public void deleteUser(int userId) {
         userStorage.deleteById(userId);
+        userExistenceCache.remove(userId);
         log.info("Удален пользователь с id={}", userId);
     }
 }
\ No newline at end of file
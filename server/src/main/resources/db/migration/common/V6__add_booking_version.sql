@@ -0,0 +1 @@
+ALTER TABLE bookings ADD COLUMN version INTEGER DEFAULT 0 NOT NULL;
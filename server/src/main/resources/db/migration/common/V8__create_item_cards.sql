@@ -0,0 +1,39 @@
+CREATE TABLE item_cards (
+  item_id INTEGER PRIMARY KEY,
+  owner_id INTEGER NOT NULL,
+  name VARCHAR(128) NOT NULL,
+  description VARCHAR(1000) NOT NULL,
+  is_available BOOLEAN NOT NULL,
+  request_id INTEGER,
+  last_booking_id INTEGER,
+  last_booking_start TIMESTAMP,
+  last_booking_end TIMESTAMP,
+  last_booker_id INTEGER,
+  last_booking_status VARCHAR(64),
+  next_booking_id INTEGER,
+  next_booking_start TIMESTAMP,
+  next_booking_end TIMESTAMP,
+  next_booker_id INTEGER,
+  next_booking_status VARCHAR(64),
+  comment_count INTEGER DEFAULT 0 NOT NULL,
+  refresh_at TIMESTAMP,
+  version INTEGER DEFAULT 0 NOT NULL,
+  CONSTRAINT fk_item_cards_to_items FOREIGN KEY(item_id) REFERENCES items(id) ON DELETE CASCADE
+);
+
+CREATE INDEX ix_item_cards_owner ON item_cards (owner_id, item_id);
+
+CREATE TABLE item_card_comments (
+  item_id INTEGER NOT NULL,
+  preview_index INTEGER NOT NULL,
+  comment_id INTEGER NOT NULL,
+  text VARCHAR(1000) NOT NULL,
+  author_name VARCHAR(128) NOT NULL,
+  created TIMESTAMP NOT NULL,
+  CONSTRAINT pk_item_card_comments PRIMARY KEY (item_id, preview_index),
+  CONSTRAINT fk_item_card_comments_to_item_cards FOREIGN KEY(item_id) REFERENCES item_cards(item_id) ON DELETE CASCADE
+);
+
+INSERT INTO item_cards (item_id, owner_id, name, description, is_available, request_id, refresh_at)
+SELECT id, owner_id, name, description, is_available, request_id, TIMESTAMP '1970-01-01 00:00:00'
+FROM items;
@@ -0,0 +1 @@
+CREATE INDEX ix_comments_author ON comments (author_id, item_id);
@@ -0,0 +1,11 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_item_requests_requestor_created ON item_requests (requestor_id, created DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_item_requests_created ON item_requests (created DESC, id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_items_owner ON items (owner_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_items_request ON items (request_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_bookings_booker_start ON bookings (booker_id, start_time DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_bookings_item_start ON bookings (item_id, start_time DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_bookings_item_booker_end ON bookings (item_id, booker_id, end_time);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_comments_item_created ON comments (item_id, created DESC);
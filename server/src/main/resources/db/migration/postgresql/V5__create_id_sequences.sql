@@ -0,0 +1,14 @@
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE(MAX(id), 0) + 50, false) FROM users;
+
+CREATE SEQUENCE item_requests_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('item_requests_seq', COALESCE(MAX(id), 0) + 50, false) FROM item_requests;
+
+CREATE SEQUENCE items_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('items_seq', COALESCE(MAX(id), 0) + 50, false) FROM items;
+
+CREATE SEQUENCE bookings_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('bookings_seq', COALESCE(MAX(id), 0) + 50, false) FROM bookings;
+
+CREATE SEQUENCE comments_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('comments_seq', COALESCE(MAX(id), 0) + 50, false) FROM comments;
@@ -0,0 +1,30 @@
+DO $$
+DECLARE
+  booking RECORD;
+  current_item INTEGER;
+  kept_id INTEGER;
+  kept_end TIMESTAMP;
+  rejected INTEGER := 0;
+BEGIN
+  FOR booking IN
+    SELECT id, item_id, start_time, end_time
+    FROM bookings
+    WHERE status = 'APPROVED'
+    ORDER BY item_id, start_time, id
+  LOOP
+    IF current_item IS DISTINCT FROM booking.item_id THEN
+      current_item := booking.item_id;
+      kept_id := NULL;
+      kept_end := NULL;
+    END IF;
+    IF kept_end IS NOT NULL AND booking.start_time < kept_end THEN
+      RAISE NOTICE 'Booking % of item % overlaps approved booking % and is rejected', booking.id, booking.item_id, kept_id;
+      UPDATE bookings SET status = 'REJECTED', version = version + 1 WHERE id = booking.id;
+      rejected := rejected + 1;
+    ELSE
+      kept_id := booking.id;
+      kept_end := booking.end_time;
+    END IF;
+  END LOOP;
+  RAISE NOTICE 'Rejected % overlapping approved bookings', rejected;
+END $$;
@@ -0,0 +1,6 @@
+SET LOCAL lock_timeout = '5s';
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings ADD CONSTRAINT ex_bookings_item_approved_period
+  EXCLUDE USING gist (item_id WITH =, tsrange(start_time, end_time) WITH &&) WHERE (status = 'APPROVED');
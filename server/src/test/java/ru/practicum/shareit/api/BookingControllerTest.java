@@ -7,6 +7,8 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.BookingController;
@@ -14,7 +16,9 @@ import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
 import ru.practicum.shareit.booking.model.dto.BookingDtoOutgoing;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.PageCursorException;
 import ru.practicum.shareit.item.model.dto.ItemDto;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.model.UserDto;
 
 import java.nio.charset.StandardCharsets;
@@ -27,9 +31,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -62,7 +68,8 @@ public class BookingControllerTest {
                     null,
                     null,
                     null,
-                    Collections.emptyList()
+                    Collections.emptyList(),
+                    null
             ),
             new UserDto(1, "user1", "user1@email.com"),
             BookingStatus.WAITING
@@ -167,4 +174,58 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$.[0].item.id").value(bookingDtoOutgoing.getItem().getId()))
                 .andExpect(jsonPath("$.[0].booker.id").value(bookingDtoOutgoing.getBooker().getId()));
     }
+
+    @Test
+    public void shouldGetUserBookingsAfterCursorWithNextCursor() throws Exception {
+        String after = PageCursor.encode(LocalDateTime.now().plusDays(5), 2);
+        Mockito
+                .when(bookingService.getUserBookingsAfter(anyInt(), anyString(), eq(after), eq(1)))
+                .thenReturn(new SliceImpl<>(List.of(bookingDtoOutgoing), PageRequest.of(0, 1), true));
+
+        mvc.perform(get("/bookings")
+                        .param("after", after)
+                        .param("size", "1")
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(header().string(
+                        PageCursor.NEXT_CURSOR_HEADER,
+                        PageCursor.encode(bookingDtoOutgoing.getStart(), bookingDtoOutgoing.getId())
+                ));
+    }
+
+    @Test
+    public void shouldGetLastUserBookingsPageAfterCursorWithoutNextCursor() throws Exception {
+        String after = PageCursor.encode(LocalDateTime.now().plusDays(5), 2);
+        Mockito
+                .when(bookingService.getUserBookingsAfter(anyInt(), anyString(), eq(after), eq(1)))
+                .thenReturn(new SliceImpl<>(List.of(bookingDtoOutgoing), PageRequest.of(0, 1), false));
+
+        mvc.perform(get("/bookings")
+                        .param("after", after)
+                        .param("size", "1")
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(header().doesNotExist(PageCursor.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    public void shouldNotGetUserBookingsWhenCursorInvalid() throws Exception {
+        Mockito
+                .when(bookingService.getUserBookingsAfter(anyInt(), anyString(), anyString(), anyInt()))
+                .thenThrow(new PageCursorException("Некорректный курсор 'abc'"));
+
+        mvc.perform(get("/bookings")
+                        .param("after", "abc")
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Некорректный курсор 'abc'"));
+    }
 }
\ No newline at end of file
@@ -9,8 +9,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.availability.BookingInterval;
+import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.item.ItemController;
 import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.model.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.model.dto.ItemBatchResultDto;
 import ru.practicum.shareit.item.model.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
 
@@ -22,6 +26,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -46,7 +51,8 @@ public class ItemControllerTest {
             null,
             null,
             null,
-            Collections.emptyList()
+            Collections.emptyList(),
+            null
     );
 
     @Test
@@ -100,6 +106,29 @@ public class ItemControllerTest {
                 .andExpect(jsonPath("$.description").value(itemDto.getDescription()));
     }
 
+    @Test
+    public void shouldAddItems() throws Exception {
+        Mockito
+                .when(itemService.addItems(anyInt(), anyList()))
+                .thenReturn(List.of(
+                        new ItemBatchResultDto(0, itemDto, null),
+                        new ItemBatchResultDto(1, null, "Запрос с id=5 не найден")
+                ));
+
+        mvc.perform(post("/items/batch")
+                        .content(mapper.writeValueAsString(List.of(itemDto, itemDto)))
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(2))
+                .andExpect(jsonPath("$.[0].index").value(0))
+                .andExpect(jsonPath("$.[0].item.id").value(itemDto.getId()))
+                .andExpect(jsonPath("$.[1].index").value(1))
+                .andExpect(jsonPath("$.[1].error").value("Запрос с id=5 не найден"));
+    }
+
     @Test
     public void shouldUpdateItem() throws Exception {
         Mockito
@@ -128,6 +157,34 @@ public class ItemControllerTest {
         Mockito.verify(itemService).deleteItem(anyInt(), anyInt());
     }
 
+    @Test
+    public void shouldGetItemAvailability() throws Exception {
+        LocalDateTime from = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime to = from.plusDays(2);
+        Mockito
+                .when(itemService.getItemAvailability(1, from, to))
+                .thenReturn(new ItemAvailabilityDto(
+                        1,
+                        from,
+                        to,
+                        false,
+                        List.of(new BookingInterval(1, from, to, BookingStatus.APPROVED))
+                ));
+
+        mvc.perform(get("/items/1/availability")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemId").value(1))
+                .andExpect(jsonPath("$.available").value(false))
+                .andExpect(jsonPath("$.bookings.size()").value(1))
+                .andExpect(jsonPath("$.bookings[0].start").value(from.toString()))
+                .andExpect(jsonPath("$.bookings[0].status").value("APPROVED"));
+    }
+
     @Test
     public void shouldFindItems() throws Exception {
         Mockito
@@ -170,4 +227,28 @@ public class ItemControllerTest {
                 .andExpect(jsonPath("$.authorName").value(commentDto.getAuthorName()))
                 .andExpect(jsonPath("$.created").value(commentDto.getCreated().toString()));
     }
+
+    @Test
+    public void shouldGetComments() throws Exception {
+        CommentDto commentDto = new CommentDto(
+                1,
+                "test comment text",
+                "user1",
+                LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS)
+        );
+        Mockito
+                .when(itemService.getComments(1, 10, 5))
+                .thenReturn(List.of(commentDto));
+
+        mvc.perform(get("/items/1/comments")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("from", "10")
+                        .param("size", "5")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$.[0].id").value(commentDto.getId()))
+                .andExpect(jsonPath("$.[0].authorName").value(commentDto.getAuthorName()));
+    }
 }
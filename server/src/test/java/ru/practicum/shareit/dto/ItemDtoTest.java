@@ -27,7 +27,8 @@ public class ItemDtoTest {
                 null,
                 null,
                 null,
-                Collections.emptyList()
+                Collections.emptyList(),
+                null
         );
         JsonContent<ItemDto> result = json.write(itemDto);
 
@@ -0,0 +1,53 @@
+package ru.practicum.shareit.integration;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.storage.ItemStorage;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.storage.UserStorage;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+@Transactional
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+public class BulkInsertTest {
+    private static final int ITEMS = 500;
+
+    private final EntityManager em;
+    private final ItemStorage itemStorage;
+    private final UserStorage userStorage;
+
+    @Test
+    public void shouldBatchBulkItemInserts() {
+        User owner = userStorage.save(new User(null, "owner", "bulk-owner@email.com"));
+        em.flush();
+        List<Item> items = IntStream.range(0, ITEMS)
+                .mapToObj(i -> new Item(null, "item" + i, "description" + i, true, owner, null))
+                .collect(Collectors.toList());
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        itemStorage.saveAll(items);
+        em.flush();
+
+        assertThat(statistics.getEntityInsertCount(), equalTo((long) ITEMS));
+        assertThat(statistics.getPrepareStatementCount(), lessThanOrEqualTo((long) (ITEMS / 50 * 2 + 2)));
+    }
+}
@@ -0,0 +1,155 @@
+package ru.practicum.shareit.integration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.BookingConflictException;
+import ru.practicum.shareit.exception.BookingStatusException;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+@Slf4j
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class ConcurrentBookingTest {
+    private static final int THREADS = 16;
+    private static final int BOOKERS = 20;
+    private static final int BOOKINGS = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserService userService;
+    private final ItemService itemService;
+    private final BookingService bookingService;
+
+    private final List<Integer> userIds = new ArrayList<>();
+    private Integer itemId;
+
+    @AfterEach
+    public void tearDown() {
+        if (itemId != null) {
+            jdbcTemplate.update("delete from bookings where item_id = ?", itemId);
+            jdbcTemplate.update("delete from items where id = ?", itemId);
+        }
+        userIds.forEach(userId -> jdbcTemplate.update("delete from users where id = ?", userId));
+    }
+
+    @Test
+    public void shouldNotDoubleBookItemUnderConcurrentAddAndApprove() throws Exception {
+        int ownerId = userService.addUser(new UserDto(null, "owner", "stress-owner@email.com")).getId();
+        userIds.add(ownerId);
+        for (int i = 0; i < BOOKERS; i++) {
+            userIds.add(userService.addUser(new UserDto(null, "booker" + i, "stress-booker" + i + "@email.com")).getId());
+        }
+        itemId = itemService.addItem(
+                ownerId,
+                new ItemDto(null, "Дрель", "Дрель для стресс-теста", true, null, null, null, null, null)
+        ).getId();
+        LocalDateTime base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+
+        List<Callable<Integer>> additions = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            LocalDateTime start = base.plusHours(i % 40);
+            BookingDtoDefault bookingDto = new BookingDtoDefault(
+                    null,
+                    start,
+                    start.plusHours(3),
+                    itemId,
+                    userIds.get(1 + i % BOOKERS),
+                    BookingStatus.WAITING
+            );
+            additions.add(() -> bookingService.addBooking(bookingDto).getId());
+        }
+        List<Integer> bookingIds = runConcurrently("addBooking", additions);
+
+        assertThat(bookingIds.size(), equalTo(BOOKINGS));
+
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Callable<Integer>> approvals = new ArrayList<>();
+        for (Integer bookingId : bookingIds) {
+            Callable<Integer> approval = () -> {
+                try {
+                    return bookingService.approveBooking(ownerId, bookingId, true).getId();
+                } catch (BookingConflictException | BookingStatusException e) {
+                    conflicts.incrementAndGet();
+                    return null;
+                }
+            };
+            approvals.add(approval);
+            approvals.add(approval);
+        }
+        Collections.shuffle(approvals);
+        long approved = runConcurrently("approveBooking", approvals).stream()
+                .filter(id -> id != null)
+                .count();
+
+        List<Map<String, Object>> approvedBookings = jdbcTemplate.queryForList(
+                "select start_time, end_time from bookings where item_id = ? and status = 'APPROVED' " +
+                        "order by start_time",
+                itemId
+        );
+        int overlaps = 0;
+        for (int i = 1; i < approvedBookings.size(); i++) {
+            Timestamp previousEnd = (Timestamp) approvedBookings.get(i - 1).get("END_TIME");
+            Timestamp start = (Timestamp) approvedBookings.get(i).get("START_TIME");
+            if (start.before(previousEnd)) overlaps++;
+        }
+
+        assertThat(overlaps, equalTo(0));
+        assertThat(approved, greaterThan(0L));
+        assertThat((long) approvedBookings.size(), equalTo(approved));
+        assertThat(approved + conflicts.get(), equalTo((long) approvals.size()));
+    }
+
+    private List<Integer> runConcurrently(String operation, List<Callable<Integer>> tasks)
+            throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (Callable<Integer> task : tasks) {
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                return task.call();
+            }));
+        }
+        long startNanos = System.nanoTime();
+        startGate.countDown();
+        List<Integer> results = new ArrayList<>();
+        for (Future<Integer> future : futures) {
+            results.add(future.get());
+        }
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        executor.shutdown();
+        log.info("{}: {} вызовов в {} потоков за {} мс ({} оп/с)",
+                operation, tasks.size(), THREADS, elapsedMillis, tasks.size() * 1000L / elapsedMillis);
+        return results;
+    }
+}
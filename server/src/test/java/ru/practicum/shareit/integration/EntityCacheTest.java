@@ -0,0 +1,90 @@
+package ru.practicum.shareit.integration;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.item.storage.ItemStorage;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.model.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.user.storage.UserStorage;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+public class EntityCacheTest {
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final UserService userService;
+    private final ItemService itemService;
+    private final UserStorage userStorage;
+    private final ItemStorage itemStorage;
+
+    private Statistics statistics;
+    private int ownerId;
+    private int itemId;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        ownerId = userService.addUser(new UserDto(null, "owner", "entity-cache-owner@email.com")).getId();
+        itemId = itemService.addItem(
+                ownerId,
+                new ItemDto(null, "Cached item", "Cached item description", true, null, null, null, null, null)
+        ).getId();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        itemStorage.deleteById(itemId);
+        userStorage.deleteById(ownerId);
+    }
+
+    @Test
+    public void shouldLoadItemAndOwnerFromSecondLevelCache() {
+        transactionTemplate.execute(status -> itemStorage.findById(itemId).orElseThrow().getOwner().getName());
+        statistics.clear();
+
+        String ownerName = transactionTemplate.execute(
+                status -> itemStorage.findById(itemId).orElseThrow().getOwner().getName()
+        );
+
+        assertThat(ownerName, equalTo("owner"));
+        assertThat(statistics.getPrepareStatementCount(), equalTo(0L));
+        assertThat(statistics.getSecondLevelCacheHitCount(), equalTo(2L));
+    }
+
+    @Test
+    public void shouldEvictUpdatedUserFromSecondLevelCache() {
+        transactionTemplate.execute(status -> userStorage.findById(ownerId).orElseThrow());
+
+        userService.updateUser(new UserDto(ownerId, "renamed", null));
+        statistics.clear();
+        User user = transactionTemplate.execute(status -> userStorage.findById(ownerId).orElseThrow());
+        Item item = transactionTemplate.execute(status -> {
+            Item found = itemStorage.findById(itemId).orElseThrow();
+            found.getOwner().getName();
+            return found;
+        });
+
+        assertThat(user.getName(), equalTo("renamed"));
+        assertThat(item.getOwner().getName(), equalTo("renamed"));
+        assertThat(statistics.getPrepareStatementCount(), equalTo(0L));
+    }
+}
@@ -1,12 +1,21 @@
 package ru.practicum.shareit.integration;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
+import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.card.ItemCardRefresher;
+import ru.practicum.shareit.item.model.dto.CommentDto;
 import ru.practicum.shareit.item.model.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.model.User;
@@ -15,6 +24,7 @@ import ru.practicum.shareit.user.service.UserService;
 
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -25,11 +35,17 @@ import static org.hamcrest.Matchers.nullValue;
 
 @Transactional
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
 public class GetItemsByUserIdTest {
     private final EntityManager em;
     private final ItemService itemService;
     private final UserService userService;
+    private final BookingService bookingService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemCardRefresher itemCardRefresher;
 
     @Test
     public void shouldGetItemsByUserId() {
@@ -41,6 +57,7 @@ public class GetItemsByUserIdTest {
                 null,
                 null,
                 null,
+                null,
                 null
         );
         UserDto userDto = new UserDto(null, "user1", "user1@email.com");
@@ -63,6 +80,66 @@ public class GetItemsByUserIdTest {
         assertThat(itemDtoOutgoing.getComments(), equalTo(Collections.emptyList()));
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void shouldGetItemsByUserIdWithConstantStatementCount() {
+        UserDto bookerDto = new UserDto(null, "booker", "booker@email.com");
+        int ownerId = userService.addUser(new UserDto(null, "owner", "owner@email.com")).getId();
+        int bookerId = userService.addUser(bookerDto).getId();
+        try {
+            for (int i = 0; i < 10; i++) {
+                ItemDto itemDto = itemService.addItem(
+                        ownerId,
+                        new ItemDto(null, "Item " + i, "Description " + i, true, null, null, null, null, null)
+                );
+                LocalDateTime now = LocalDateTime.now();
+                bookingService.addBooking(new BookingDtoDefault(
+                        null,
+                        now.minusDays(2),
+                        now.minusDays(1),
+                        itemDto.getId(),
+                        bookerId,
+                        BookingStatus.APPROVED
+                ));
+                bookingService.addBooking(new BookingDtoDefault(
+                        null,
+                        now.plusDays(1),
+                        now.plusDays(2),
+                        itemDto.getId(),
+                        bookerId,
+                        BookingStatus.WAITING
+                ));
+                itemService.addComment(bookerId, itemDto.getId(), new CommentDto(null, "Comment " + i, null, null));
+            }
+            itemCardRefresher.rebuild();
+            Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+            itemService.getItemsByUserId(ownerId, 0, 1);
+            statistics.clear();
+            List<ItemDto> smallPage = itemService.getItemsByUserId(ownerId, 0, 2);
+            long smallPageStatements = statistics.getPrepareStatementCount();
+
+            statistics.clear();
+            List<ItemDto> largePage = itemService.getItemsByUserId(ownerId, 0, 10);
+            long largePageStatements = statistics.getPrepareStatementCount();
+
+            assertThat(smallPage.size(), equalTo(2));
+            assertThat(largePage.size(), equalTo(10));
+            assertThat(largePageStatements, equalTo(smallPageStatements));
+            for (ItemDto itemDto : largePage) {
+                assertThat(itemDto.getLastBooking(), notNullValue());
+                assertThat(itemDto.getNextBooking(), notNullValue());
+                assertThat(itemDto.getComments().size(), equalTo(1));
+                assertThat(itemDto.getComments().get(0).getAuthorName(), equalTo(bookerDto.getName()));
+            }
+        } finally {
+            jdbcTemplate.update("delete from comments where author_id = ?", bookerId);
+            jdbcTemplate.update("delete from bookings where booker_id = ?", bookerId);
+            jdbcTemplate.update("delete from items where owner_id = ?", ownerId);
+            jdbcTemplate.update("delete from users where id in (?, ?)", ownerId, bookerId);
+        }
+    }
+
     @Test
     public void shouldNotGetItemsByUserIdWhenUserNotFound() {
         UserNotFoundException e = Assertions.assertThrows(
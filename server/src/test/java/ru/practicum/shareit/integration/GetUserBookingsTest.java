@@ -1,10 +1,13 @@
 package ru.practicum.shareit.integration;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
@@ -14,6 +17,7 @@ import ru.practicum.shareit.exception.UserNotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.model.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.model.UserDto;
 import ru.practicum.shareit.user.service.UserService;
@@ -21,6 +25,8 @@ import ru.practicum.shareit.user.service.UserService;
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -29,7 +35,10 @@ import static org.hamcrest.Matchers.notNullValue;
 
 @Transactional
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
 public class GetUserBookingsTest {
     private final EntityManager em;
     private final BookingService bookingService;
@@ -46,6 +55,7 @@ public class GetUserBookingsTest {
                 null,
                 null,
                 null,
+                null,
                 null
         );
         UserDto userDto = new UserDto(null, "user1", "user1@email.com");
@@ -63,8 +73,8 @@ public class GetUserBookingsTest {
         Item item = queryItem.setParameter("name", itemDto.getName()).getSingleResult();
         BookingDtoDefault bookingDtoDefault = new BookingDtoDefault(
                 null,
-                LocalDateTime.now().plusDays(1),
-                LocalDateTime.now().plusDays(2),
+                LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MICROS),
+                LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.MICROS),
                 item.getId(),
                 user2Id,
                 BookingStatus.WAITING);
@@ -81,6 +91,102 @@ public class GetUserBookingsTest {
         assertThat(bookingDtoOutgoing.getStatus(), equalTo(bookingDtoDefault.getStatus()));
     }
 
+    @Test
+    public void shouldGetUserAndOwnerBookingsWithSingleSelect() {
+        UserDto ownerDto = new UserDto(null, "owner", "owner@email.com");
+        userService.addUser(ownerDto);
+        UserDto bookerDto = new UserDto(null, "booker", "booker@email.com");
+        userService.addUser(bookerDto);
+        TypedQuery<User> queryUser = em.createQuery("select u from User u where u.email = :email", User.class);
+        int ownerId = queryUser.setParameter("email", ownerDto.getEmail()).getSingleResult().getId();
+        int bookerId = queryUser.setParameter("email", bookerDto.getEmail()).getSingleResult().getId();
+        for (int i = 0; i < 5; i++) {
+            ItemDto itemDto = itemService.addItem(
+                    ownerId,
+                    new ItemDto(null, "Item " + i, "Description " + i, true, null, null, null, null, null)
+            );
+            bookingService.addBooking(new BookingDtoDefault(
+                    null,
+                    LocalDateTime.now().plusDays(i + 1),
+                    LocalDateTime.now().plusDays(i + 2),
+                    itemDto.getId(),
+                    bookerId,
+                    BookingStatus.WAITING
+            ));
+        }
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        em.flush();
+        em.clear();
+        statistics.clear();
+        List<BookingDtoOutgoing> userBookings = bookingService.getUserBookings(bookerId, "ALL", 0, 5);
+        long userBookingsStatements = statistics.getPrepareStatementCount();
+
+        em.clear();
+        statistics.clear();
+        List<BookingDtoOutgoing> ownerBookings = bookingService.getOwnerBookings(ownerId, "ALL", 0, 5);
+        long ownerBookingsStatements = statistics.getPrepareStatementCount();
+
+        assertThat(userBookings.size(), equalTo(5));
+        assertThat(ownerBookings.size(), equalTo(5));
+        assertThat(userBookings.get(0).getBooker().getName(), equalTo(bookerDto.getName()));
+        assertThat(ownerBookings.get(0).getItem().getName(), equalTo("Item 4"));
+        assertThat(userBookingsStatements, equalTo(2L));
+        assertThat(ownerBookingsStatements, equalTo(2L));
+    }
+
+    @Test
+    public void shouldWalkUserBookingsWithCursor() {
+        UserDto ownerDto = new UserDto(null, "owner", "owner@email.com");
+        userService.addUser(ownerDto);
+        UserDto bookerDto = new UserDto(null, "booker", "booker@email.com");
+        userService.addUser(bookerDto);
+        TypedQuery<User> queryUser = em.createQuery("select u from User u where u.email = :email", User.class);
+        int ownerId = queryUser.setParameter("email", ownerDto.getEmail()).getSingleResult().getId();
+        int bookerId = queryUser.setParameter("email", bookerDto.getEmail()).getSingleResult().getId();
+        ItemDto itemDto = itemService.addItem(
+                ownerId,
+                new ItemDto(null, "Item", "Description", true, null, null, null, null, null)
+        );
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 5; i++) {
+            bookingService.addBooking(new BookingDtoDefault(
+                    null,
+                    start.plusDays(i / 2),
+                    start.plusDays(10),
+                    itemDto.getId(),
+                    bookerId,
+                    BookingStatus.WAITING
+            ));
+        }
+        em.flush();
+        em.clear();
+        List<BookingDtoOutgoing> expected = bookingService.getUserBookings(bookerId, "ALL", 0, 10);
+
+        List<BookingDtoOutgoing> firstPage = bookingService.getUserBookings(bookerId, "ALL", 0, 2);
+        List<BookingDtoOutgoing> walked = new ArrayList<>(firstPage);
+        BookingDtoOutgoing last = firstPage.get(firstPage.size() - 1);
+        int requests = 1;
+        Slice<BookingDtoOutgoing> page;
+        do {
+            page = bookingService.getUserBookingsAfter(
+                    bookerId,
+                    "ALL",
+                    PageCursor.encode(last.getStart(), last.getId()),
+                    2
+            );
+            requests++;
+            walked.addAll(page.getContent());
+            last = walked.get(walked.size() - 1);
+        } while (page.hasNext());
+
+        assertThat(expected.size(), equalTo(5));
+        assertThat(walked, equalTo(expected));
+        assertThat(requests, equalTo(3));
+        assertThat(page.getNumberOfElements(), equalTo(1));
+        assertThat(bookingService.getUserBookings(bookerId, "ALL", 1, 2), equalTo(expected.subList(1, 3)));
+    }
+
     @Test
     public void shouldNotGetUserBookingsWhenUserNotFound() {
         UserNotFoundException e = Assertions.assertThrows(
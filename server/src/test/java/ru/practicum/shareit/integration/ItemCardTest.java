@@ -0,0 +1,187 @@
+package ru.practicum.shareit.integration;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
+import ru.practicum.shareit.booking.model.dto.BookingDtoOutgoing;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.card.ItemCardRefresher;
+import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class ItemCardTest {
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemService itemService;
+    private final UserService userService;
+    private final BookingService bookingService;
+    private final ItemCardRefresher itemCardRefresher;
+    private final TransactionTemplate transactionTemplate;
+    private final List<Integer> userIds = new ArrayList<>();
+
+    @AfterEach
+    public void deleteCreated() {
+        for (int userId : userIds) {
+            jdbcTemplate.update("delete from comments where author_id = ?", userId);
+            jdbcTemplate.update("delete from bookings where booker_id = ?", userId);
+        }
+        for (int userId : userIds) {
+            jdbcTemplate.update("delete from items where owner_id = ?", userId);
+        }
+        for (int userId : userIds) {
+            jdbcTemplate.update("delete from users where id = ?", userId);
+        }
+    }
+
+    @Test
+    public void shouldKeepCardInSyncWithBookingsAndComments() {
+        int ownerId = addUser("owner", "card-owner@email.com");
+        int bookerId = addUser("booker", "card-booker@email.com");
+        ItemDto itemDto = itemService.addItem(ownerId, newItem("Card item"));
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        BookingDtoOutgoing last = bookingService.addBooking(
+                new BookingDtoDefault(null, now.minusDays(2), now.minusDays(1), itemDto.getId(), bookerId, BookingStatus.APPROVED)
+        );
+        BookingDtoOutgoing next = bookingService.addBooking(
+                new BookingDtoDefault(null, now.plusDays(1), now.plusDays(2), itemDto.getId(), bookerId, BookingStatus.WAITING)
+        );
+        itemService.addComment(bookerId, itemDto.getId(), new CommentDto(null, "Card comment", null, null));
+
+        ItemDto itemDtoOutgoing = itemService.getItemsByUserId(ownerId, 0, 5).get(0);
+
+        assertThat(itemDtoOutgoing.getLastBooking().getId(), equalTo(last.getId()));
+        assertThat(itemDtoOutgoing.getNextBooking().getId(), equalTo(next.getId()));
+        assertThat(itemDtoOutgoing.getComments().size(), equalTo(1));
+        assertThat(itemDtoOutgoing.getComments().get(0).getAuthorName(), equalTo("booker"));
+    }
+
+    @Test
+    public void shouldRecomputeStaleCardOnRead() {
+        int ownerId = addUser("owner", "card-owner@email.com");
+        int bookerId = addUser("booker", "card-booker@email.com");
+        ItemDto itemDto = itemService.addItem(ownerId, newItem("Card item"));
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        BookingDtoOutgoing booking = bookingService.addBooking(
+                new BookingDtoDefault(null, now.plusDays(1), now.plusDays(2), itemDto.getId(), bookerId, BookingStatus.APPROVED)
+        );
+        jdbcTemplate.update(
+                "update item_cards set refresh_at = ?, last_booking_id = null, next_booking_id = null where item_id = ?",
+                Timestamp.valueOf(now.minusMinutes(1)),
+                itemDto.getId()
+        );
+
+        ItemDto itemDtoOutgoing = itemService.getItemsByUserId(ownerId, 0, 5).get(0);
+
+        assertThat(itemDtoOutgoing.getLastBooking(), nullValue());
+        assertThat(itemDtoOutgoing.getNextBooking().getId(), equalTo(booking.getId()));
+    }
+
+    @Test
+    public void shouldRefreshCommentAuthorNameOnRename() {
+        int ownerId = addUser("owner", "card-owner@email.com");
+        int bookerId = addUser("booker", "card-booker@email.com");
+        ItemDto itemDto = itemService.addItem(ownerId, newItem("Card item"));
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        bookingService.addBooking(
+                new BookingDtoDefault(null, now.minusDays(2), now.minusDays(1), itemDto.getId(), bookerId, BookingStatus.APPROVED)
+        );
+        itemService.addComment(bookerId, itemDto.getId(), new CommentDto(null, "Card comment", null, null));
+        itemService.getItemById(bookerId, itemDto.getId());
+        userService.updateUser(new UserDto(bookerId, "renamed", null));
+
+        List<ItemDto> items = itemService.getItemsByUserId(ownerId, 0, 5);
+        ItemDto itemView = itemService.getItemById(bookerId, itemDto.getId());
+
+        assertThat(items.get(0).getComments().get(0).getAuthorName(), equalTo("renamed"));
+        assertThat(itemView.getComments().get(0).getAuthorName(), equalTo("renamed"));
+    }
+
+    @Test
+    public void shouldStoreFullCommentsPreview() {
+        int ownerId = addUser("owner", "card-owner@email.com");
+        int bookerId = addUser("booker", "card-booker@email.com");
+        ItemDto itemDto = itemService.addItem(ownerId, newItem("Card item"));
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        bookingService.addBooking(
+                new BookingDtoDefault(null, now.minusDays(2), now.minusDays(1), itemDto.getId(), bookerId, BookingStatus.APPROVED)
+        );
+        String text = "\"".repeat(1000);
+        for (int i = 0; i < ItemCardRefresher.COMMENTS_PREVIEW_SIZE; i++) {
+            itemService.addComment(bookerId, itemDto.getId(), new CommentDto(null, text, null, null));
+        }
+
+        ItemDto itemDtoOutgoing = itemService.getItemsByUserId(ownerId, 0, 5).get(0);
+
+        assertThat(itemDtoOutgoing.getComments().size(), equalTo(ItemCardRefresher.COMMENTS_PREVIEW_SIZE));
+        assertThat(itemDtoOutgoing.getComments().get(0).getText(), equalTo(text));
+    }
+
+    @Test
+    public void shouldMarkCardStaleInWritingTransaction() {
+        int ownerId = addUser("owner", "card-owner@email.com");
+        ItemDto itemDto = itemService.addItem(ownerId, newItem("Card item"));
+
+        Timestamp refreshAt = transactionTemplate.execute(status -> {
+            itemService.updateItem(
+                    ownerId,
+                    new ItemDto(itemDto.getId(), "Renamed item", null, null, null, null, null, null, null)
+            );
+            return jdbcTemplate.queryForObject(
+                    "select refresh_at from item_cards where item_id = ?",
+                    Timestamp.class,
+                    itemDto.getId()
+            );
+        });
+        ItemDto itemDtoOutgoing = itemService.getItemsByUserId(ownerId, 0, 5).get(0);
+
+        assertThat(refreshAt.toLocalDateTime().isAfter(LocalDateTime.now()), equalTo(false));
+        assertThat(itemDtoOutgoing.getName(), equalTo("Renamed item"));
+    }
+
+    @Test
+    public void shouldRebuildCards() {
+        int ownerId = addUser("owner", "card-rebuild@email.com");
+        ItemDto itemDto = itemService.addItem(ownerId, newItem("Rebuilt item"));
+        jdbcTemplate.update("update item_cards set name = 'stale' where item_id = ?", itemDto.getId());
+
+        int rebuilt = itemCardRefresher.rebuild();
+
+        assertThat(rebuilt, greaterThanOrEqualTo(1));
+        assertThat(cardName(itemDto.getId()), equalTo("Rebuilt item"));
+    }
+
+    private int addUser(String name, String email) {
+        int userId = userService.addUser(new UserDto(null, name, email)).getId();
+        userIds.add(userId);
+        return userId;
+    }
+
+    private String cardName(int itemId) {
+        return jdbcTemplate.queryForObject("select name from item_cards where item_id = ?", String.class, itemId);
+    }
+
+    private ItemDto newItem(String name) {
+        return new ItemDto(null, name, name + " description", true, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,119 @@
+package ru.practicum.shareit.integration;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.QueryHints;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingMapper;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.dto.BookingDtoOutgoing;
+import ru.practicum.shareit.booking.storage.BookingStorage;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemMapper;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+import ru.practicum.shareit.item.storage.ItemStorage;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+@Transactional
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class ProjectionQueryTest {
+    private static final int PAGE_SIZE = 100;
+
+    private final EntityManager em;
+    private final BookingStorage bookingStorage;
+    private final ItemStorage itemStorage;
+
+    private User owner;
+    private User booker;
+
+    @BeforeEach
+    public void setUp() {
+        owner = new User(null, "owner", "projection-owner@email.com");
+        booker = new User(null, "booker", "projection-booker@email.com");
+        em.persist(owner);
+        em.persist(booker);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Item item = new Item(null, "projection" + i, "description" + i, true, owner, null);
+            em.persist(item);
+            em.persist(new Booking(
+                    null,
+                    start.plusHours(i),
+                    start.plusHours(i + 1),
+                    item,
+                    booker,
+                    BookingStatus.WAITING,
+                    null
+            ));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void shouldMapBookingPageProjectionLikeEntities() {
+        Supplier<List<BookingDtoOutgoing>> entities = () -> em.createQuery("select b " +
+                        "from Booking as b " +
+                        "join fetch b.item " +
+                        "join fetch b.booker " +
+                        "where b.booker.id = :bookerId " +
+                        "order by b.start desc", Booking.class)
+                .setParameter("bookerId", booker.getId())
+                .setHint(QueryHints.HINT_READONLY, true)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList().stream()
+                .map(BookingMapper::bookingToDtoOutgoing)
+                .collect(Collectors.toList());
+        Supplier<List<BookingDtoOutgoing>> projections = () -> bookingStorage.findByBookerIdOrderByStartDesc(
+                        booker.getId(),
+                        PageRequest.of(0, PAGE_SIZE)
+                ).stream()
+                .map(BookingMapper::bookingToDtoOutgoing)
+                .collect(Collectors.toList());
+
+        assertThat(projections.get(), equalTo(entities.get()));
+    }
+
+    @Test
+    public void shouldMapItemPageProjectionLikeEntities() {
+        Supplier<List<ItemDto>> entities = () -> em.createQuery("select it " +
+                        "from Item as it " +
+                        "where (lower(it.name) like lower(concat('%', ?1,'%')) " +
+                        "or lower(it.description) like lower(concat('%', ?1,'%'))) " +
+                        "and it.isAvailable = TRUE " +
+                        "order by case " +
+                        "when lower(it.name) = lower(?1) then 0 " +
+                        "when lower(it.name) like lower(concat(?1, '%')) then 1 " +
+                        "when lower(it.name) like lower(concat('%', ?1, '%')) then 2 " +
+                        "else 3 end, it.id", Item.class)
+                .setParameter(1, "projection")
+                .setHint(QueryHints.HINT_READONLY, true)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList().stream()
+                .map(item -> ItemMapper.itemToDto(item, null, null, null))
+                .collect(Collectors.toList());
+        Supplier<List<ItemDto>> projections = () -> itemStorage.findByText(
+                        "projection",
+                        PageRequest.of(0, PAGE_SIZE)
+                ).stream()
+                .map(ItemMapper::itemToDto)
+                .collect(Collectors.toList());
+
+        assertThat(projections.get(), equalTo(entities.get()));
+    }
+}
@@ -0,0 +1,199 @@
+package ru.practicum.shareit.integration;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.storage.BookingStorage;
+import ru.practicum.shareit.item.storage.CommentStorage;
+import ru.practicum.shareit.item.storage.ItemCardStorage;
+import ru.practicum.shareit.item.storage.ItemStorage;
+import ru.practicum.shareit.itemrequest.storage.ItemRequestStorage;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+
+@Transactional
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "ru.practicum.shareit.integration.QueryPlanTest$SqlRecorder"
+)
+public class QueryPlanTest {
+    private static final int USERS = 100;
+    private static final int ITEMS = 1000;
+    private static final int REQUESTS = 300;
+    private static final int BOOKINGS = 5000;
+    private static final int COMMENTS = 2000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingStorage bookingStorage;
+    private final ItemStorage itemStorage;
+    private final CommentStorage commentStorage;
+    private final ItemCardStorage itemCardStorage;
+    private final ItemRequestStorage itemRequestStorage;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.batchUpdate(
+                "insert into users (id, name, email) values (?, ?, ?)",
+                rows(USERS, i -> new Object[]{i, "user" + i, "user" + i + "@email.com"})
+        );
+        jdbcTemplate.batchUpdate(
+                "insert into item_requests (id, description, requestor_id, created) values (?, ?, ?, ?)",
+                rows(REQUESTS, i -> new Object[]{i, "request" + i, i % USERS + 1, time(-i)})
+        );
+        jdbcTemplate.batchUpdate(
+                "insert into items (id, name, description, is_available, owner_id, request_id) "
+                        + "values (?, ?, ?, ?, ?, ?)",
+                rows(ITEMS, i -> new Object[]{
+                        i, "item" + i, "description" + i, i % 3 != 0, i % USERS + 1, i % 5 == 0 ? i % REQUESTS + 1 : null
+                })
+        );
+        jdbcTemplate.batchUpdate(
+                "insert into bookings (id, start_time, end_time, item_id, booker_id, status) "
+                        + "values (?, ?, ?, ?, ?, ?)",
+                rows(BOOKINGS, i -> new Object[]{
+                        i, time(i % 60 - 30), time(i % 60 - 28), i % ITEMS + 1, i * 7 % USERS + 1,
+                        BookingStatus.values()[i % BookingStatus.values().length].name()
+                })
+        );
+        jdbcTemplate.batchUpdate(
+                "insert into comments (id, text, item_id, author_id, created) values (?, ?, ?, ?, ?)",
+                rows(COMMENTS, i -> new Object[]{i, "comment" + i, i % ITEMS + 1, i % USERS + 1, time(-i % 30)})
+        );
+        jdbcTemplate.update("insert into item_cards (item_id, owner_id, name, description, is_available, request_id) "
+                + "select id, owner_id, name, description, is_available, request_id from items");
+    }
+
+    @Test
+    public void shouldNotScanTablesInRepositoryQueries() {
+        Pageable page = PageRequest.of(0, 10);
+        Pageable byIdDesc = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+        List<Integer> itemIds = List.of(1, 2, 3);
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findByBookerIdOrderByStartDesc",
+                () -> bookingStorage.findByBookerIdOrderByStartDesc(1, byIdDesc));
+        queries.put("findByBookerIdAndStartAfterOrderByStartDesc",
+                () -> bookingStorage.findByBookerIdAndStartAfterOrderByStartDesc(1, now, byIdDesc));
+        queries.put("findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc",
+                () -> bookingStorage.findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(1, now, now, byIdDesc));
+        queries.put("findByBookerIdAndEndBeforeOrderByStartDesc",
+                () -> bookingStorage.findByBookerIdAndEndBeforeOrderByStartDesc(1, now, byIdDesc));
+        queries.put("findByBookerIdAndStatusOrderByStartDesc",
+                () -> bookingStorage.findByBookerIdAndStatusOrderByStartDesc(1, BookingStatus.WAITING, byIdDesc));
+        queries.put("findByItemOwnerIdOrderByStartDesc",
+                () -> bookingStorage.findByItemOwnerIdOrderByStartDesc(1, byIdDesc));
+        queries.put("findByItemOwnerIdAndStartAfterOrderByStartDesc",
+                () -> bookingStorage.findByItemOwnerIdAndStartAfterOrderByStartDesc(1, now, byIdDesc));
+        queries.put("findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc",
+                () -> bookingStorage.findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(1, now, now, byIdDesc));
+        queries.put("findByItemOwnerIdAndEndBeforeOrderByStartDesc",
+                () -> bookingStorage.findByItemOwnerIdAndEndBeforeOrderByStartDesc(1, now, byIdDesc));
+        queries.put("findByItemOwnerIdAndStatusOrderByStartDesc",
+                () -> bookingStorage.findByItemOwnerIdAndStatusOrderByStartDesc(1, BookingStatus.WAITING, byIdDesc));
+        queries.put("findByBookerIdAfterCursor",
+                () -> bookingStorage.findByBookerIdAfterCursor(1, now, 1, page));
+        queries.put("findFutureByBookerIdAfterCursor",
+                () -> bookingStorage.findFutureByBookerIdAfterCursor(1, now, now, 1, page));
+        queries.put("findCurrentByBookerIdAfterCursor",
+                () -> bookingStorage.findCurrentByBookerIdAfterCursor(1, now, now, now, 1, page));
+        queries.put("findPastByBookerIdAfterCursor",
+                () -> bookingStorage.findPastByBookerIdAfterCursor(1, now, now, 1, page));
+        queries.put("findByBookerIdAndStatusAfterCursor",
+                () -> bookingStorage.findByBookerIdAndStatusAfterCursor(1, BookingStatus.WAITING, now, 1, page));
+        queries.put("findByItemOwnerIdAfterCursor",
+                () -> bookingStorage.findByItemOwnerIdAfterCursor(1, now, 1, page));
+        queries.put("findFutureByItemOwnerIdAfterCursor",
+                () -> bookingStorage.findFutureByItemOwnerIdAfterCursor(1, now, now, 1, page));
+        queries.put("findCurrentByItemOwnerIdAfterCursor",
+                () -> bookingStorage.findCurrentByItemOwnerIdAfterCursor(1, now, now, now, 1, page));
+        queries.put("findPastByItemOwnerIdAfterCursor",
+                () -> bookingStorage.findPastByItemOwnerIdAfterCursor(1, now, now, 1, page));
+        queries.put("findByItemOwnerIdAndStatusAfterCursor",
+                () -> bookingStorage.findByItemOwnerIdAndStatusAfterCursor(1, BookingStatus.WAITING, now, 1, page));
+        queries.put("findLastByItemIdIn", () -> bookingStorage.findLastByItemIdIn(itemIds, now));
+        queries.put("findNextByItemIdIn", () -> bookingStorage.findNextByItemIdIn(itemIds, now));
+        queries.put("existsOverlapping",
+                () -> bookingStorage.existsOverlapping(1, BookingStatus.APPROVED, now, now.plusDays(1)));
+        queries.put("findIntervalsByItemId",
+                () -> bookingStorage.findIntervalsByItemId(1, BookingStatus.REJECTED));
+        queries.put("existsByBookerIdAndItemIdAndEndBefore",
+                () -> bookingStorage.existsByBookerIdAndItemIdAndEndBefore(1, 1, now));
+        queries.put("findByIdAndItemOwnerId", () -> bookingStorage.findByIdAndItemOwnerId(1, 1));
+        queries.put("findByIdForUpdate", () -> itemStorage.findByIdForUpdate(1));
+        queries.put("findByOwnerIdOrderByItemId", () -> itemCardStorage.findByOwnerIdOrderByItemId(1, page));
+        queries.put("findByOwnerIdAndItemIdGreaterThanOrderByItemId",
+                () -> itemCardStorage.findByOwnerIdAndItemIdGreaterThanOrderByItemId(1, 1, page));
+        queries.put("findAllCardsById", () -> itemCardStorage.findAllById(itemIds));
+        queries.put("findByIdGreaterThanOrderById", () -> itemStorage.findByIdGreaterThanOrderById(1, page));
+        queries.put("findByRequestId", () -> itemStorage.findByRequestId(1));
+        queries.put("findByRequestIdIn", () -> itemStorage.findByRequestIdIn(itemIds));
+        queries.put("findByItemIdOrderByCreatedDesc", () -> commentStorage.findByItemIdOrderByCreatedDesc(1, page));
+        queries.put("findNewestIdsByItemIdIn", () -> commentStorage.findNewestIdsByItemIdIn(itemIds, 10));
+        queries.put("findByIdInOrderByCreatedDesc", () -> commentStorage.findByIdInOrderByCreatedDesc(itemIds));
+        queries.put("countByItemId", () -> commentStorage.countByItemId(1));
+        queries.put("countByItemIdIn", () -> commentStorage.countByItemIdIn(itemIds));
+        queries.put("findItemIdsByAuthorId", () -> commentStorage.findItemIdsByAuthorId(1));
+        queries.put("findByRequestorIdOrderByCreatedDesc",
+                () -> itemRequestStorage.findByRequestorIdOrderByCreatedDesc(1));
+        queries.put("findByRequestorIdNotOrderByCreatedDesc",
+                () -> itemRequestStorage.findByRequestorIdNotOrderByCreatedDesc(1, byIdDesc));
+        queries.put("findByRequestorIdNotAfter",
+                () -> itemRequestStorage.findByRequestorIdNotAfter(1, now, 1, page));
+
+        List<String> tableScans = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            SqlRecorder.STATEMENTS.clear();
+            query.run();
+            for (String sql : SqlRecorder.STATEMENTS) {
+                String plan = jdbcTemplate.queryForObject("explain " + sql, String.class);
+                if (plan.contains(".tableScan")) tableScans.add(name + ": " + plan);
+            }
+        });
+
+        assertThat(tableScans, empty());
+    }
+
+    private Timestamp time(int days) {
+        return Timestamp.valueOf(now.plusDays(days));
+    }
+
+    private static List<Object[]> rows(int count, IntFunction<Object[]> row) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(row)
+                .collect(Collectors.toList());
+    }
+
+    public static class SqlRecorder implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package ru.practicum.shareit.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.config.HibernateCacheConfig;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.CommentCount;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.storage.CommentStorage;
+import ru.practicum.shareit.item.storage.ItemStorage;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.storage.UserStorage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+
+@DataJpaTest
+@Import(HibernateCacheConfig.class)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class CommentStorageTest {
+    private final CommentStorage commentStorage;
+    private final ItemStorage itemStorage;
+    private final UserStorage userStorage;
+
+    private Item first;
+    private Item second;
+    private final List<Comment> firstComments = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        User user = userStorage.save(new User(null, "user", "user@email.com"));
+        first = itemStorage.save(new Item(null, "first", "first description", true, user, null));
+        second = itemStorage.save(new Item(null, "second", "second description", true, user, null));
+        LocalDateTime created = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < 5; i++) {
+            firstComments.add(commentStorage.save(new Comment(null, "comment " + i, first, user, created.plusHours(i))));
+        }
+        commentStorage.save(new Comment(null, "second comment", second, user, created));
+    }
+
+    @Test
+    public void shouldFindPageOfNewestComments() {
+        List<Comment> comments = commentStorage.findByItemIdOrderByCreatedDesc(first.getId(), PageRequest.of(1, 2));
+
+        assertThat(comments, equalTo(List.of(firstComments.get(2), firstComments.get(1))));
+    }
+
+    @Test
+    public void shouldFindNewestIdsPerItem() {
+        List<Integer> ids = commentStorage.findNewestIdsByItemIdIn(List.of(first.getId(), second.getId()), 2);
+        List<Comment> comments = commentStorage.findByIdInOrderByCreatedDesc(ids);
+
+        assertThat(comments.size(), equalTo(3));
+        assertThat(
+                comments.stream()
+                        .filter(comment -> comment.getItem().getId().equals(first.getId()))
+                        .collect(Collectors.toList()),
+                equalTo(List.of(firstComments.get(4), firstComments.get(3)))
+        );
+    }
+
+    @Test
+    public void shouldCountCommentsPerItem() {
+        assertThat(commentStorage.countByItemId(first.getId()), equalTo(5L));
+        assertThat(
+                commentStorage.countByItemIdIn(List.of(first.getId(), second.getId())),
+                containsInAnyOrder(new CommentCount(first.getId(), 5), new CommentCount(second.getId(), 1))
+        );
+    }
+}
@@ -4,18 +4,23 @@ import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.config.HibernateCacheConfig;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSummary;
 import ru.practicum.shareit.item.storage.ItemStorage;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserStorage;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
 @DataJpaTest
+@Import(HibernateCacheConfig.class)
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 public class ItemStorageTest {
     private final ItemStorage itemStorage;
@@ -34,13 +39,35 @@ public class ItemStorageTest {
                 null
         );
         itemStorage.save(item);
-        List<Item> items = itemStorage.findByText("item", PageRequest.of(0, 5));
+        List<ItemSummary> items = itemStorage.findByText("item", PageRequest.of(0, 5));
 
         assertThat(items.size(), equalTo(1));
-        assertThat(items.get(0), equalTo(item));
+        assertThat(items.get(0), equalTo(new ItemSummary(item.getId(), "item name", "item description", true, null)));
 
         items = itemStorage.findByText("scissors", PageRequest.of(0, 5));
 
         assertThat(items.size(), equalTo(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFindByTextOrderedByRelevance() {
+        User user = new User(null, "user", "user@email.com");
+        userStorage.save(user);
+        Item inDescription = itemStorage.save(new Item(null, "tool", "cordless drill", true, user, null));
+        Item inName = itemStorage.save(new Item(null, "power drill", "tool", true, user, null));
+        Item namePrefix = itemStorage.save(new Item(null, "drill set", "tool", true, user, null));
+        Item exactName = itemStorage.save(new Item(null, "Drill", "tool", true, user, null));
+        itemStorage.save(new Item(null, "drill", "unavailable", false, user, null));
+
+        List<Integer> itemIds = itemStorage.findByText("drill", PageRequest.of(0, 5)).stream()
+                .map(ItemSummary::getId)
+                .collect(Collectors.toList());
+
+        assertThat(itemIds, equalTo(List.of(
+                exactName.getId(),
+                namePrefix.getId(),
+                inName.getId(),
+                inDescription.getId()
+        )));
+    }
+}
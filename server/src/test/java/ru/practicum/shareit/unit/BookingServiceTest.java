@@ -9,20 +9,31 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import ru.practicum.shareit.booking.availability.ItemAvailabilityIndex;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingSummary;
 import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
 import ru.practicum.shareit.booking.model.dto.BookingDtoOutgoing;
 import ru.practicum.shareit.booking.service.BookingServiceImpl;
 import ru.practicum.shareit.booking.storage.BookingStorage;
+import ru.practicum.shareit.exception.BookingConflictException;
 import ru.practicum.shareit.exception.BookingEndTimeException;
 import ru.practicum.shareit.exception.BookingNotFoundException;
 import ru.practicum.shareit.exception.BookingStatusException;
 import ru.practicum.shareit.exception.ItemNotFoundException;
 import ru.practicum.shareit.exception.ItemUnavailableException;
+import ru.practicum.shareit.exception.PageCursorException;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.cache.ItemViewCache;
+import ru.practicum.shareit.item.card.ItemCardRefresher;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.storage.ItemStorage;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.user.cache.UserExistenceCache;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserStorage;
 
@@ -35,6 +46,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static ru.practicum.shareit.booking.model.BookingMapper.bookingFromDto;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,13 +56,22 @@ public class BookingServiceTest {
     @Mock
     private UserStorage userStorage;
     @Mock
+    private UserExistenceCache userExistenceCache;
+    @Mock
     private ItemStorage itemStorage;
+    @Mock
+    private ItemAvailabilityIndex itemAvailabilityIndex;
+    @Mock
+    private ItemViewCache itemViewCache;
+    @Mock
+    private ItemCardRefresher itemCardRefresher;
     @InjectMocks
     private BookingServiceImpl bookingService;
 
     private User user;
     private Item item;
     private BookingDtoDefault bookingDtoDefault;
+    private BookingSummary bookingSummary;
 
     @BeforeEach
     public void setUp() {
@@ -73,6 +94,21 @@ public class BookingServiceTest {
                 1,
                 BookingStatus.WAITING
         );
+
+        bookingSummary = new BookingSummary(
+                bookingDtoDefault.getId(),
+                bookingDtoDefault.getStart(),
+                bookingDtoDefault.getEnd(),
+                bookingDtoDefault.getStatus(),
+                item.getId(),
+                item.getName(),
+                item.getDescription(),
+                item.getIsAvailable(),
+                null,
+                user.getId(),
+                user.getName(),
+                user.getEmail()
+        );
     }
 
     @Test
@@ -95,6 +131,33 @@ public class BookingServiceTest {
         assertThat(bookingDtoOutgoing.getItem().getId(), equalTo(bookingDtoDefault.getItemId()));
         assertThat(bookingDtoOutgoing.getBooker().getId(), equalTo(bookingDtoDefault.getBookerId()));
         assertThat(bookingDtoOutgoing.getStatus(), equalTo(bookingDtoDefault.getStatus()));
+        Mockito.verify(itemAvailabilityIndex).evict(1);
+        Mockito.verify(itemViewCache).evict(1);
+    }
+
+    @Test
+    public void shouldNotAddBookingWhenOverlapsApprovedBooking() {
+        Mockito
+                .when(userStorage.findById(anyInt()))
+                .thenReturn(Optional.of(user));
+        Mockito
+                .when(itemStorage.findById(anyInt()))
+                .thenReturn(Optional.of(item));
+        Mockito
+                .when(itemAvailabilityIndex.hasApprovedOverlap(
+                        1,
+                        bookingDtoDefault.getStart(),
+                        bookingDtoDefault.getEnd()
+                ))
+                .thenReturn(true);
+
+        BookingConflictException e = Assertions.assertThrows(
+                BookingConflictException.class,
+                () -> bookingService.addBooking(bookingDtoDefault)
+        );
+
+        assertThat(e.getMessage(), equalTo("Вещь с id=1 уже забронирована на этот период"));
+        Mockito.verify(bookingStorage, Mockito.never()).save(any(Booking.class));
     }
 
     @Test
@@ -213,7 +276,7 @@ public class BookingServiceTest {
                         bookingFromDto(bookingDtoDefault, user, item)
                 ));
         Mockito
-                .when(bookingStorage.save(any(Booking.class)))
+                .when(bookingStorage.saveAndFlush(any(Booking.class)))
                 .then(returnsFirstArg());
 
         BookingDtoOutgoing bookingDtoOutgoing = bookingService.approveBooking(2, 1, true);
@@ -224,6 +287,7 @@ public class BookingServiceTest {
         assertThat(bookingDtoOutgoing.getItem().getId(), equalTo(bookingDtoDefault.getItemId()));
         assertThat(bookingDtoOutgoing.getBooker().getId(), equalTo(bookingDtoDefault.getBookerId()));
         assertThat(bookingDtoOutgoing.getStatus(), equalTo(BookingStatus.APPROVED));
+        Mockito.verify(itemViewCache).evict(1);
     }
 
     @Test
@@ -234,7 +298,7 @@ public class BookingServiceTest {
                         bookingFromDto(bookingDtoDefault, user, item)
                 ));
         Mockito
-                .when(bookingStorage.save(any(Booking.class)))
+                .when(bookingStorage.saveAndFlush(any(Booking.class)))
                 .then(returnsFirstArg());
 
         BookingDtoOutgoing bookingDtoOutgoing = bookingService.approveBooking(2, 1, false);
@@ -247,6 +311,51 @@ public class BookingServiceTest {
         assertThat(bookingDtoOutgoing.getStatus(), equalTo(BookingStatus.REJECTED));
     }
 
+    @Test
+    public void shouldNotApproveBookingWhenOverlapsApprovedBooking() {
+        Mockito
+                .when(bookingStorage.findByIdAndItemOwnerId(anyInt(), anyInt()))
+                .thenReturn(Optional.of(
+                        bookingFromDto(bookingDtoDefault, user, item)
+                ));
+        Mockito
+                .when(bookingStorage.existsOverlapping(
+                        1,
+                        BookingStatus.APPROVED,
+                        bookingDtoDefault.getStart(),
+                        bookingDtoDefault.getEnd()
+                ))
+                .thenReturn(true);
+
+        BookingConflictException e = Assertions.assertThrows(
+                BookingConflictException.class,
+                () -> bookingService.approveBooking(2, 1, true)
+        );
+
+        assertThat(e.getMessage(), equalTo("Вещь с id=1 уже забронирована на этот период"));
+        Mockito.verify(itemStorage).findByIdForUpdate(1);
+        Mockito.verify(bookingStorage, Mockito.never()).saveAndFlush(any(Booking.class));
+    }
+
+    @Test
+    public void shouldNotApproveBookingWhenModifiedConcurrently() {
+        Mockito
+                .when(bookingStorage.findByIdAndItemOwnerId(anyInt(), anyInt()))
+                .thenReturn(Optional.of(
+                        bookingFromDto(bookingDtoDefault, user, item)
+                ));
+        Mockito
+                .when(bookingStorage.saveAndFlush(any(Booking.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Booking.class, 1));
+
+        BookingConflictException e = Assertions.assertThrows(
+                BookingConflictException.class,
+                () -> bookingService.approveBooking(2, 1, true)
+        );
+
+        assertThat(e.getMessage(), equalTo("Бронирование с id=1 было изменено параллельно"));
+    }
+
     @Test
     public void shouldNotApproveBookingWhenBookingNotFound() {
         Mockito
@@ -288,7 +397,7 @@ public class BookingServiceTest {
     @Test
     public void shouldGetById() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
                 .when(bookingStorage.findById(anyInt()))
@@ -309,7 +418,7 @@ public class BookingServiceTest {
     @Test
     public void shouldNotGetByIdWhenUserNotFound() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(false);
 
         UserNotFoundException e = Assertions.assertThrows(
@@ -323,7 +432,7 @@ public class BookingServiceTest {
     @Test
     public void shouldNotGetByIdWhenBookingNotFound() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
                 .when(bookingStorage.findById(anyInt()))
@@ -340,7 +449,7 @@ public class BookingServiceTest {
     @Test
     public void shouldNotGetByIdWhenUserNotOwnerOrBooker() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
                 .when(bookingStorage.findById(anyInt()))
@@ -359,7 +468,7 @@ public class BookingServiceTest {
     @Test
     public void shouldGetAllUserBookings() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
                 .when(
@@ -367,9 +476,7 @@ public class BookingServiceTest {
                                 anyInt(),
                                 any(Pageable.class))
                 )
-                .thenReturn(List.of(
-                        bookingFromDto(bookingDtoDefault, user, item)
-                ));
+                .thenReturn(List.of(bookingSummary));
 
         List<BookingDtoOutgoing> bookings = bookingService.getUserBookings(1, "ALL", 0, 5);
         BookingDtoOutgoing bookingDtoOutgoing = bookings.get(0);
@@ -386,7 +493,7 @@ public class BookingServiceTest {
     @Test
     public void shouldGetWaitingUserBookings() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
                 .when(
@@ -395,9 +502,7 @@ public class BookingServiceTest {
                                 any(BookingStatus.class),
                                 any(Pageable.class))
                 )
-                .thenReturn(List.of(
-                        bookingFromDto(bookingDtoDefault, user, item)
-                ));
+                .thenReturn(List.of(bookingSummary));
 
         List<BookingDtoOutgoing> bookings = bookingService.getUserBookings(1, "WAITING", 0, 5);
         BookingDtoOutgoing bookingDtoOutgoing = bookings.get(0);
@@ -414,7 +519,7 @@ public class BookingServiceTest {
     @Test
     public void shouldGetFutureUserBookings() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
                 .when(
@@ -423,9 +528,7 @@ public class BookingServiceTest {
                                 any(LocalDateTime.class),
                                 any(Pageable.class))
                 )
-                .thenReturn(List.of(
-                        bookingFromDto(bookingDtoDefault, user, item)
-                ));
+                .thenReturn(List.of(bookingSummary));
 
         List<BookingDtoOutgoing> bookings = bookingService.getUserBookings(1, "FUTURE", 0, 5);
         BookingDtoOutgoing bookingDtoOutgoing = bookings.get(0);
@@ -439,10 +542,52 @@ public class BookingServiceTest {
         assertThat(bookingDtoOutgoing.getStatus(), equalTo(bookingDtoDefault.getStatus()));
     }
 
+    @Test
+    public void shouldGetUserBookingsAfterCursor() {
+        LocalDateTime afterStart = LocalDateTime.now().plusDays(5);
+        Mockito
+                .when(userExistenceCache.exists(anyInt()))
+                .thenReturn(true);
+        Mockito
+                .when(
+                        bookingStorage.findByBookerIdAndStatusAfterCursor(
+                                eq(1),
+                                eq(BookingStatus.WAITING),
+                                eq(afterStart),
+                                eq(3),
+                                any(Pageable.class))
+                )
+                .thenReturn(new SliceImpl<>(List.of(bookingSummary)));
+
+        Slice<BookingDtoOutgoing> bookings = bookingService.getUserBookingsAfter(
+                1,
+                "WAITING",
+                PageCursor.encode(afterStart, 3),
+                5
+        );
+
+        assertThat(bookings.getNumberOfElements(), equalTo(1));
+        assertThat(bookings.getContent().get(0).getId(), equalTo(bookingDtoDefault.getId()));
+    }
+
+    @Test
+    public void shouldNotGetUserBookingsAfterCursorWithoutTime() {
+        Mockito
+                .when(userExistenceCache.exists(anyInt()))
+                .thenReturn(true);
+
+        PageCursorException e = Assertions.assertThrows(
+                PageCursorException.class,
+                () -> bookingService.getUserBookingsAfter(1, "ALL", PageCursor.encode(3), 5)
+        );
+
+        assertThat(e.getMessage(), equalTo("Курсор не содержит момент времени"));
+    }
+
     @Test
     public void shouldNotGetUserBookingsWhenUserNotFound() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(false);
 
         UserNotFoundException e = Assertions.assertThrows(
@@ -456,7 +601,7 @@ public class BookingServiceTest {
     @Test
     public void shouldGetAllOwnerBookings() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
                 .when(
@@ -464,9 +609,7 @@ public class BookingServiceTest {
                                 anyInt(),
                                 any(Pageable.class))
                 )
-                .thenReturn(List.of(
-                        bookingFromDto(bookingDtoDefault, user, item)
-                ));
+                .thenReturn(List.of(bookingSummary));
 
         List<BookingDtoOutgoing> bookings = bookingService.getOwnerBookings(2, "ALL", 0, 5);
         BookingDtoOutgoing bookingDtoOutgoing = bookings.get(0);
@@ -483,7 +626,7 @@ public class BookingServiceTest {
     @Test
     public void shouldGetWaitingOwnerBookings() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
                 .when(
@@ -492,9 +635,7 @@ public class BookingServiceTest {
                                 any(BookingStatus.class),
                                 any(Pageable.class))
                 )
-                .thenReturn(List.of(
-                        bookingFromDto(bookingDtoDefault, user, item)
-                ));
+                .thenReturn(List.of(bookingSummary));
 
         List<BookingDtoOutgoing> bookings = bookingService.getOwnerBookings(1, "WAITING", 0, 5);
         BookingDtoOutgoing bookingDtoOutgoing = bookings.get(0);
@@ -511,7 +652,7 @@ public class BookingServiceTest {
     @Test
     public void shouldGetFutureOwnerBookings() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
                 .when(
@@ -520,9 +661,7 @@ public class BookingServiceTest {
                                 any(LocalDateTime.class),
                                 any(Pageable.class))
                 )
-                .thenReturn(List.of(
-                        bookingFromDto(bookingDtoDefault, user, item)
-                ));
+                .thenReturn(List.of(bookingSummary));
 
         List<BookingDtoOutgoing> bookings = bookingService.getOwnerBookings(1, "FUTURE", 0, 5);
         BookingDtoOutgoing bookingDtoOutgoing = bookings.get(0);
@@ -536,10 +675,37 @@ public class BookingServiceTest {
         assertThat(bookingDtoOutgoing.getStatus(), equalTo(bookingDtoDefault.getStatus()));
     }
 
+    @Test
+    public void shouldGetOwnerBookingsAfterCursor() {
+        LocalDateTime afterStart = LocalDateTime.now().plusDays(5);
+        Mockito
+                .when(userExistenceCache.exists(anyInt()))
+                .thenReturn(true);
+        Mockito
+                .when(
+                        bookingStorage.findByItemOwnerIdAfterCursor(
+                                eq(2),
+                                eq(afterStart),
+                                eq(3),
+                                any(Pageable.class))
+                )
+                .thenReturn(new SliceImpl<>(List.of(bookingSummary)));
+
+        Slice<BookingDtoOutgoing> bookings = bookingService.getOwnerBookingsAfter(
+                2,
+                "ALL",
+                PageCursor.encode(afterStart, 3),
+                5
+        );
+
+        assertThat(bookings.getNumberOfElements(), equalTo(1));
+        assertThat(bookings.getContent().get(0).getId(), equalTo(bookingDtoDefault.getId()));
+    }
+
     @Test
     public void shouldNotGetOwnerBookingsWhenUserNotFound() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(false);
 
         UserNotFoundException e = Assertions.assertThrows(
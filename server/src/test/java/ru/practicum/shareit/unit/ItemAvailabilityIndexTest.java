@@ -0,0 +1,97 @@
+package ru.practicum.shareit.unit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.availability.BookingInterval;
+import ru.practicum.shareit.booking.availability.ItemAvailabilityIndex;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.storage.BookingStorage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemAvailabilityIndexTest {
+    @Mock
+    private BookingStorage bookingStorage;
+    private ItemAvailabilityIndex itemAvailabilityIndex;
+
+    private final LocalDateTime base = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @BeforeEach
+    public void setUp() {
+        itemAvailabilityIndex = new ItemAvailabilityIndex(bookingStorage, 100, Duration.ofMinutes(1));
+        Mockito
+                .when(bookingStorage.findIntervalsByItemId(1, BookingStatus.REJECTED))
+                .thenReturn(List.of(
+                        new BookingInterval(3, base.plusDays(10), base.plusDays(12), BookingStatus.WAITING),
+                        new BookingInterval(1, base.plusDays(1), base.plusDays(5), BookingStatus.APPROVED),
+                        new BookingInterval(2, base.plusDays(2), base.plusDays(3), BookingStatus.WAITING)
+                ));
+    }
+
+    @Test
+    public void shouldFindBookingsOverlappingPeriod() {
+        assertThat(bookingIds(base, base.plusDays(1)), equalTo(Collections.emptyList()));
+        assertThat(bookingIds(base.plusDays(4), base.plusDays(11)), equalTo(List.of(1, 3)));
+        assertThat(bookingIds(base.plusDays(2), base.plusDays(3)), equalTo(List.of(1, 2)));
+        assertThat(bookingIds(base.plusDays(12), base.plusDays(20)), equalTo(Collections.emptyList()));
+        Mockito.verify(bookingStorage, Mockito.times(1)).findIntervalsByItemId(1, BookingStatus.REJECTED);
+    }
+
+    @Test
+    public void shouldCheckOverlapWithApprovedBookingsOnly() {
+        assertThat(itemAvailabilityIndex.hasApprovedOverlap(1, base.plusDays(4), base.plusDays(6)), equalTo(true));
+        assertThat(itemAvailabilityIndex.hasApprovedOverlap(1, base.plusDays(5), base.plusDays(11)), equalTo(false));
+        assertThat(itemAvailabilityIndex.hasApprovedOverlap(1, base, base.plusDays(1)), equalTo(false));
+    }
+
+    @Test
+    public void shouldReloadCalendarAfterEviction() {
+        assertThat(itemAvailabilityIndex.contains(1), equalTo(false));
+        assertThat(itemAvailabilityIndex.hasApprovedOverlap(1, base.plusDays(11), base.plusDays(13)), equalTo(false));
+        assertThat(itemAvailabilityIndex.contains(1), equalTo(true));
+        Mockito
+                .when(bookingStorage.findIntervalsByItemId(1, BookingStatus.REJECTED))
+                .thenReturn(List.of(
+                        new BookingInterval(1, base.plusDays(1), base.plusDays(5), BookingStatus.APPROVED),
+                        new BookingInterval(3, base.plusDays(10), base.plusDays(12), BookingStatus.APPROVED),
+                        new BookingInterval(4, base.plusDays(6), base.plusDays(7), BookingStatus.WAITING)
+                ));
+
+        itemAvailabilityIndex.evict(1);
+
+        assertThat(itemAvailabilityIndex.contains(1), equalTo(false));
+        assertThat(bookingIds(base, base.plusDays(30)), equalTo(List.of(1, 4, 3)));
+        assertThat(itemAvailabilityIndex.hasApprovedOverlap(1, base.plusDays(11), base.plusDays(13)), equalTo(true));
+        Mockito.verify(bookingStorage, Mockito.times(2)).findIntervalsByItemId(1, BookingStatus.REJECTED);
+    }
+
+    @Test
+    public void shouldReloadCalendarAfterExpiry() throws InterruptedException {
+        itemAvailabilityIndex = new ItemAvailabilityIndex(bookingStorage, 100, Duration.ofMillis(50));
+        itemAvailabilityIndex.getBookings(1, base, base.plusDays(1));
+
+        Thread.sleep(100);
+
+        assertThat(itemAvailabilityIndex.contains(1), equalTo(false));
+        itemAvailabilityIndex.getBookings(1, base, base.plusDays(1));
+        Mockito.verify(bookingStorage, Mockito.times(2)).findIntervalsByItemId(1, BookingStatus.REJECTED);
+    }
+
+    private List<Integer> bookingIds(LocalDateTime from, LocalDateTime to) {
+        return itemAvailabilityIndex.getBookings(1, from, to).stream()
+                .map(BookingInterval::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -9,16 +9,23 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import ru.practicum.shareit.exception.ItemRequestNotFoundException;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.model.ItemSummary;
 import ru.practicum.shareit.item.storage.ItemStorage;
 import ru.practicum.shareit.itemrequest.model.ItemRequest;
 import ru.practicum.shareit.itemrequest.model.ItemRequestDto;
+import ru.practicum.shareit.itemrequest.model.ItemRequestSummary;
 import ru.practicum.shareit.itemrequest.service.ItemRequestServiceImpl;
 import ru.practicum.shareit.itemrequest.storage.ItemRequestStorage;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.user.cache.UserExistenceCache;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserStorage;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -27,7 +34,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static ru.practicum.shareit.itemrequest.model.ItemRequestMapper.itemRequestFromDto;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,12 +46,15 @@ public class ItemRequestServiceTest {
     @Mock
     private UserStorage userStorage;
     @Mock
+    private UserExistenceCache userExistenceCache;
+    @Mock
     private ItemStorage itemStorage;
     @InjectMocks
     private ItemRequestServiceImpl itemRequestService;
 
     private User user;
     private ItemRequestDto itemRequestDto;
+    private ItemRequestSummary itemRequestSummary;
 
     @BeforeEach
     public void setUp() {
@@ -54,6 +66,8 @@ public class ItemRequestServiceTest {
                 null,
                 Collections.emptyList()
         );
+
+        itemRequestSummary = new ItemRequestSummary(1, "Test description", LocalDateTime.now());
     }
 
     @Test
@@ -89,15 +103,13 @@ public class ItemRequestServiceTest {
     @Test
     public void shouldGetItemRequestsByUserId() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
                 .when(itemRequestStorage.findByRequestorIdOrderByCreatedDesc(anyInt()))
-                .thenReturn(
-                        List.of(itemRequestFromDto(itemRequestDto, user))
-                );
+                .thenReturn(List.of(itemRequestSummary));
         Mockito
-                .when(itemStorage.findByRequestId(anyInt()))
+                .when(itemStorage.findByRequestIdIn(anyCollection()))
                 .thenReturn(Collections.emptyList());
 
         List<ItemRequestDto> itemRequests = itemRequestService.getItemRequestsByUserId(1);
@@ -112,7 +124,7 @@ public class ItemRequestServiceTest {
     @Test
     public void shouldNotGetItemRequestsByUserIdWhenUserNotFound() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(false);
 
         UserNotFoundException e = Assertions.assertThrows(
@@ -126,15 +138,13 @@ public class ItemRequestServiceTest {
     @Test
     public void shouldGetAllItemRequests() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
                 .when(itemRequestStorage.findByRequestorIdNotOrderByCreatedDesc(anyInt(), any(Pageable.class)))
-                .thenReturn(
-                        List.of(itemRequestFromDto(itemRequestDto, user))
-                );
+                .thenReturn(List.of(itemRequestSummary));
         Mockito
-                .when(itemStorage.findByRequestId(anyInt()))
+                .when(itemStorage.findByRequestIdIn(anyCollection()))
                 .thenReturn(Collections.emptyList());
 
         List<ItemRequestDto> itemRequests = itemRequestService.getAllItemRequests(1, 0, 5);
@@ -146,10 +156,57 @@ public class ItemRequestServiceTest {
         assertThat(itemRequestDtoOutgoing.getItems(), equalTo(itemRequestDto.getItems()));
     }
 
+    @Test
+    public void shouldGetAllItemRequestsWithItemsInOneQuery() {
+        ItemRequestSummary first = new ItemRequestSummary(1, "Test description", LocalDateTime.now());
+        ItemRequestSummary second = new ItemRequestSummary(2, "Second description", LocalDateTime.now());
+        ItemSummary item = new ItemSummary(1, "Item", "Item description", true, first.getId());
+        Mockito
+                .when(userExistenceCache.exists(anyInt()))
+                .thenReturn(true);
+        Mockito
+                .when(itemRequestStorage.findByRequestorIdNotOrderByCreatedDesc(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        Mockito
+                .when(itemStorage.findByRequestIdIn(List.of(1, 2)))
+                .thenReturn(List.of(item));
+
+        List<ItemRequestDto> itemRequests = itemRequestService.getAllItemRequests(1, 0, 5);
+
+        assertThat(itemRequests.size(), equalTo(2));
+        assertThat(itemRequests.get(0).getItems().size(), equalTo(1));
+        assertThat(itemRequests.get(0).getItems().get(0).getId(), equalTo(item.getId()));
+        assertThat(itemRequests.get(1).getItems(), equalTo(Collections.emptyList()));
+        Mockito.verify(itemStorage, Mockito.never()).findByRequestId(anyInt());
+    }
+
+    @Test
+    public void shouldGetAllItemRequestsAfterCursor() {
+        LocalDateTime afterCreated = LocalDateTime.now();
+        Mockito
+                .when(userExistenceCache.exists(anyInt()))
+                .thenReturn(true);
+        Mockito
+                .when(itemRequestStorage.findByRequestorIdNotAfter(eq(1), eq(afterCreated), eq(5), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(itemRequestSummary)));
+        Mockito
+                .when(itemStorage.findByRequestIdIn(anyCollection()))
+                .thenReturn(Collections.emptyList());
+
+        Slice<ItemRequestDto> itemRequests = itemRequestService.getAllItemRequestsAfter(
+                1,
+                PageCursor.encode(afterCreated, 5),
+                5
+        );
+
+        assertThat(itemRequests.getNumberOfElements(), equalTo(1));
+        assertThat(itemRequests.getContent().get(0).getId(), equalTo(itemRequestDto.getId()));
+    }
+
     @Test
     public void shouldNotGetAllItemRequestsWhenUserNotFound() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(false);
 
         UserNotFoundException e = Assertions.assertThrows(
@@ -163,7 +220,7 @@ public class ItemRequestServiceTest {
     @Test
     public void shouldGetItemRequestById() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
                 .when(itemRequestStorage.findById(anyInt()))
@@ -184,7 +241,7 @@ public class ItemRequestServiceTest {
     @Test
     public void shouldNotGetItemRequestByIdWhenUserNotFound() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(false);
 
         UserNotFoundException e = Assertions.assertThrows(
@@ -198,7 +255,7 @@ public class ItemRequestServiceTest {
     @Test
     public void shouldNotGetItemRequestByIdWhenItemRequestNotFound() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
                 .when(itemRequestStorage.findById(anyInt()))
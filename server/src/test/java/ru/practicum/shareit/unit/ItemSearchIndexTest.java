@@ -0,0 +1,133 @@
+package ru.practicum.shareit.unit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.storage.ItemStorage;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemSearchIndexTest {
+    @Mock
+    private ItemStorage itemStorage;
+    private ItemSearchIndex itemSearchIndex;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        itemSearchIndex = new ItemSearchIndex(itemStorage, true);
+        user = new User(1, "user1", "user1@email.com");
+        Mockito
+                .when(itemStorage.findByIdGreaterThanOrderById(eq(0), any(Pageable.class)))
+                .thenReturn(List.of(
+                        new Item(1, "Дрель", "Простая дрель", true, user, null),
+                        new Item(2, "Аккумуляторная дрель", "Аккумуляторная дрель + аккумулятор", true, user, null),
+                        new Item(3, "Отвертка", "Аккумуляторная отвертка", true, user, null),
+                        new Item(4, "Дрель ударная", "Сломана", false, user, null)
+                ));
+        itemSearchIndex.rebuild();
+    }
+
+    @Test
+    public void shouldFindAvailableItemsByTokenPrefix() {
+        assertThat(searchIds("дрел", 0, 10), equalTo(List.of(1, 2)));
+        assertThat(searchIds("АККУМ", 0, 10), equalTo(List.of(2, 3)));
+        assertThat(searchIds("аккумуляторная дрель", 0, 10), equalTo(List.of(2)));
+        assertThat(searchIds("пила", 0, 10), equalTo(Collections.emptyList()));
+    }
+
+    @Test
+    public void shouldPageSearchResults() {
+        assertThat(searchIds("аккумуляторная", 1, 1), equalTo(List.of(3)));
+        assertThat(searchIds("аккумуляторная", 2, 1), equalTo(Collections.emptyList()));
+    }
+
+    @Test
+    public void shouldOrderSearchResultsByRelevance() {
+        itemSearchIndex.index(new Item(5, "Набор", "Дрель и биты", true, user, null));
+        itemSearchIndex.index(new Item(6, "Дрель-шуруповерт", "Компактная", true, user, null));
+        itemSearchIndex.index(new Item(7, "дрель", "Еще одна", true, user, null));
+
+        assertThat(searchIds("дрель", 0, 10), equalTo(List.of(1, 7, 6, 2, 5)));
+        assertThat(searchIds("дрель", 2, 2), equalTo(List.of(6, 2)));
+    }
+
+    @Test
+    public void shouldTrackEstimatedBytesOnItemChanges() {
+        long initialBytes = itemSearchIndex.getStats().getEstimatedBytes();
+
+        itemSearchIndex.index(new Item(5, "Пила", "Ручная пила", true, user, null));
+        long grownBytes = itemSearchIndex.getStats().getEstimatedBytes();
+        itemSearchIndex.remove(5);
+
+        assertThat(grownBytes > initialBytes, equalTo(true));
+        assertThat(itemSearchIndex.getStats().getEstimatedBytes(), equalTo(initialBytes));
+    }
+
+    @Test
+    public void shouldUpdateIndexOnItemChanges() {
+        itemSearchIndex.index(new Item(5, "Пила", "Ручная пила", true, user, null));
+        itemSearchIndex.index(new Item(1, "Перфоратор", "Простой перфоратор", true, user, null));
+        itemSearchIndex.remove(2);
+
+        assertThat(searchIds("пил", 0, 10), equalTo(List.of(5)));
+        assertThat(searchIds("дрель", 0, 10), equalTo(Collections.emptyList()));
+        assertThat(searchIds("перф", 0, 10), equalTo(List.of(1)));
+        assertThat(itemSearchIndex.getStats().getItems(), equalTo(4));
+    }
+
+    @Test
+    public void shouldKeepChangesMadeDuringRebuild() {
+        Mockito
+                .when(itemStorage.findByIdGreaterThanOrderById(eq(0), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    itemSearchIndex.index(new Item(5, "Пила", "Ручная пила", true, user, null));
+                    itemSearchIndex.remove(1);
+                    return List.of(
+                            new Item(1, "Дрель", "Простая дрель", true, user, null),
+                            new Item(2, "Аккумуляторная дрель", "Аккумуляторная дрель + аккумулятор", true, user, null)
+                    );
+                });
+
+        itemSearchIndex.rebuild();
+
+        assertThat(searchIds("пил", 0, 10), equalTo(List.of(5)));
+        assertThat(searchIds("дрель", 0, 10), equalTo(List.of(2)));
+        assertThat(itemSearchIndex.getStats().getItems(), equalTo(2));
+    }
+
+    @Test
+    public void shouldNotUpdateIndexWhenDisabled() {
+        ItemSearchIndex disabledIndex = new ItemSearchIndex(itemStorage, false);
+
+        disabledIndex.rebuild();
+        disabledIndex.index(new Item(5, "Пила", "Ручная пила", true, user, null));
+
+        assertThat(disabledIndex.getStats().getItems(), equalTo(0));
+        Mockito.verify(itemStorage, Mockito.times(1)).findByIdGreaterThanOrderById(anyInt(), any(Pageable.class));
+    }
+
+    private List<Integer> searchIds(String text, int from, int size) {
+        return itemSearchIndex.search(text, from, size).stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -7,8 +7,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.practicum.shareit.booking.availability.BookingInterval;
+import ru.practicum.shareit.booking.availability.ItemAvailabilityIndex;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.storage.BookingStorage;
@@ -17,22 +23,37 @@ import ru.practicum.shareit.exception.ItemNotFoundException;
 import ru.practicum.shareit.exception.ItemOwnerException;
 import ru.practicum.shareit.exception.ItemRequestNotFoundException;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.cache.ItemViewCache;
+import ru.practicum.shareit.item.card.ItemCardRefresher;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemCard;
+import ru.practicum.shareit.item.model.ItemSummary;
 import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.model.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.model.dto.ItemBatchResultDto;
 import ru.practicum.shareit.item.model.dto.ItemDto;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.item.service.ItemServiceImpl;
 import ru.practicum.shareit.item.storage.CommentStorage;
+import ru.practicum.shareit.item.storage.ItemCardStorage;
 import ru.practicum.shareit.item.storage.ItemStorage;
 import ru.practicum.shareit.itemrequest.model.ItemRequest;
 import ru.practicum.shareit.itemrequest.storage.ItemRequestStorage;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.user.cache.UserExistenceCache;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserStorage;
 
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -40,7 +61,11 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static ru.practicum.shareit.item.model.CommentMapper.commentToDto;
+import static ru.practicum.shareit.item.model.ItemCardMapper.cardFromItem;
 import static ru.practicum.shareit.item.model.ItemMapper.itemToDto;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,16 +75,32 @@ public class ItemServiceTest {
     @Mock
     private UserStorage userStorage;
     @Mock
+    private UserExistenceCache userExistenceCache;
+    @Mock
     private BookingStorage bookingStorage;
     @Mock
     private CommentStorage commentStorage;
     @Mock
     private ItemRequestStorage itemRequestStorage;
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+    @Mock
+    private ItemAvailabilityIndex itemAvailabilityIndex;
+    @Mock
+    private ItemCardStorage itemCardStorage;
+    @Mock
+    private ItemCardRefresher itemCardRefresher;
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    @Spy
+    private ItemViewCache itemViewCache = new ItemViewCache(100, Duration.ofMinutes(5), transactionManager);
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
     @InjectMocks
     private ItemServiceImpl itemService;
 
     private User user;
     private Item item;
+    private ItemSummary itemSummary;
     private Comment comment;
     private Booking booking;
     private ItemRequest itemRequest;
@@ -76,7 +117,8 @@ public class ItemServiceTest {
                 LocalDateTime.now().plusDays(2),
                 item,
                 new User(2, "user2", "user2@email.com"),
-                BookingStatus.APPROVED
+                BookingStatus.APPROVED,
+                null
         );
         itemRequest = new ItemRequest(
                 1,
@@ -86,6 +128,13 @@ public class ItemServiceTest {
                 Collections.emptyList()
         );
         item.setRequest(itemRequest);
+        itemSummary = new ItemSummary(
+                item.getId(),
+                item.getName(),
+                item.getDescription(),
+                item.getIsAvailable(),
+                itemRequest.getId()
+        );
     }
 
     @Test
@@ -94,21 +143,13 @@ public class ItemServiceTest {
                 .when(itemStorage.findById(anyInt()))
                 .thenReturn(Optional.of(item));
         Mockito
-                .when(bookingStorage.findFirstByItemIdAndStatusNotAndStartBeforeOrderByStartDesc(
-                        anyInt(),
-                        any(BookingStatus.class),
-                        any(LocalDateTime.class)
-                ))
-                .thenReturn(null);
-        Mockito
-                .when(bookingStorage.findFirstByItemIdAndStatusNotAndStartAfterOrderByStartAsc(
-                        anyInt(),
-                        any(BookingStatus.class),
-                        any(LocalDateTime.class)
-                ))
-                .thenReturn(booking);
-        Mockito
-                .when(commentStorage.findByItemIdOrderByCreatedDesc(anyInt()))
+                .when(bookingStorage.findLastByItemIdIn(eq(List.of(1)), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
+        Mockito
+                .when(bookingStorage.findNextByItemIdIn(eq(List.of(1)), any(LocalDateTime.class)))
+                .thenReturn(List.of(booking));
+        Mockito
+                .when(commentStorage.findByItemIdOrderByCreatedDesc(anyInt(), any(Pageable.class)))
                 .thenReturn(List.of(comment));
 
         ItemDto itemDtoOutgoing = itemService.getItemById(1, 1);
@@ -122,6 +163,114 @@ public class ItemServiceTest {
         assertThat(itemDtoOutgoing.getNextBooking().getId(), equalTo(booking.getId()));
         assertThat(itemDtoOutgoing.getComments().size(), equalTo(1));
         assertThat(itemDtoOutgoing.getComments().get(0).getId(), equalTo(comment.getId()));
+        Mockito.verify(transactionManager, Mockito.times(2))
+                .getTransaction(argThat(definition -> definition != null && definition.isReadOnly()));
+    }
+
+    @Test
+    public void shouldGetItemByIdFromCache() {
+        Mockito
+                .when(itemStorage.findById(anyInt()))
+                .thenReturn(Optional.of(item));
+        Mockito
+                .when(bookingStorage.findLastByItemIdIn(eq(List.of(1)), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
+        Mockito
+                .when(bookingStorage.findNextByItemIdIn(eq(List.of(1)), any(LocalDateTime.class)))
+                .thenReturn(List.of(booking));
+        Mockito
+                .when(commentStorage.findByItemIdOrderByCreatedDesc(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(comment));
+
+        ItemDto ownerView = itemService.getItemById(1, 1);
+        ItemDto publicView = itemService.getItemById(2, 1);
+
+        assertThat(itemService.getItemById(1, 1), equalTo(ownerView));
+        assertThat(itemService.getItemById(3, 1), equalTo(publicView));
+        assertThat(publicView.getNextBooking(), nullValue());
+        assertThat(publicView.getComments(), equalTo(ownerView.getComments()));
+        Mockito.verify(itemStorage, Mockito.times(1)).findById(1);
+        Mockito.verify(commentStorage, Mockito.times(1)).findByItemIdOrderByCreatedDesc(eq(1), any(Pageable.class));
+        Mockito.verify(bookingStorage, Mockito.times(1)).findNextByItemIdIn(eq(List.of(1)), any(LocalDateTime.class));
+    }
+
+    @Test
+    public void shouldReloadItemByIdAfterComment() {
+        Mockito
+                .when(userStorage.findById(anyInt()))
+                .thenReturn(Optional.of(user));
+        Mockito
+                .when(itemStorage.findById(anyInt()))
+                .thenReturn(Optional.of(item));
+        Mockito
+                .when(bookingStorage.existsByBookerIdAndItemIdAndEndBefore(anyInt(), anyInt(), any(LocalDateTime.class)))
+                .thenReturn(true);
+        Mockito
+                .when(commentStorage.save(any(Comment.class)))
+                .thenReturn(comment);
+        Mockito
+                .when(commentStorage.findByItemIdOrderByCreatedDesc(anyInt(), any(Pageable.class)))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(List.of(comment));
+
+        assertThat(itemService.getItemById(2, 1).getComments().size(), equalTo(0));
+
+        itemService.addComment(2, 1, commentToDto(comment, user.getName()));
+
+        assertThat(itemService.getItemById(2, 1).getComments().size(), equalTo(1));
+        Mockito.verify(itemViewCache).evict(1);
+    }
+
+    @Test
+    public void shouldGetItemByIdWithCommentCountWhenPreviewFull() {
+        Mockito
+                .when(itemStorage.findById(anyInt()))
+                .thenReturn(Optional.of(item));
+        Mockito
+                .when(commentStorage.findByItemIdOrderByCreatedDesc(anyInt(), any(Pageable.class)))
+                .thenReturn(Collections.nCopies(10, comment));
+        Mockito
+                .when(commentStorage.countByItemId(anyInt()))
+                .thenReturn(25L);
+
+        ItemDto itemDtoOutgoing = itemService.getItemById(2, 1);
+
+        assertThat(itemDtoOutgoing.getComments().size(), equalTo(10));
+        assertThat(itemDtoOutgoing.getCommentCount(), equalTo(25));
+    }
+
+    @Test
+    public void shouldGetComments() {
+        Mockito
+                .when(itemStorage.existsById(anyInt()))
+                .thenReturn(true);
+        Mockito
+                .when(commentStorage.findByItemIdOrderByCreatedDesc(eq(1), any(Pageable.class)))
+                .thenReturn(List.of(comment));
+
+        List<CommentDto> comments = itemService.getComments(1, 10, 5);
+
+        assertThat(comments.size(), equalTo(1));
+        assertThat(comments.get(0).getId(), equalTo(comment.getId()));
+        assertThat(comments.get(0).getAuthorName(), equalTo(user.getName()));
+        Mockito.verify(commentStorage).findByItemIdOrderByCreatedDesc(
+                eq(1),
+                argThat(pageable -> pageable.getOffset() == 10 && pageable.getPageSize() == 5)
+        );
+    }
+
+    @Test
+    public void shouldNotGetCommentsWhenItemNotFound() {
+        Mockito
+                .when(itemStorage.existsById(anyInt()))
+                .thenReturn(false);
+
+        ItemNotFoundException e = Assertions.assertThrows(
+                ItemNotFoundException.class,
+                () -> itemService.getComments(1, 0, 10)
+        );
+
+        assertThat(e.getMessage(), equalTo("Вещь с id=1 не найдена"));
     }
 
     @Test
@@ -140,29 +289,16 @@ public class ItemServiceTest {
 
     @Test
     public void shouldGetItemsByUserId() {
+        ItemCard card = cardFromItem(item, null, booking, List.of(commentToDto(comment, user.getName())), 1, 0);
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
         Mockito
-                .when(itemStorage.findByOwnerIdOrderById(anyInt(), any(Pageable.class)))
-                .thenReturn(List.of(item));
+                .when(itemCardStorage.findByOwnerIdOrderByItemId(anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(card));
         Mockito
-                .when(bookingStorage.findFirstByItemIdAndStatusNotAndStartBeforeOrderByStartDesc(
-                        anyInt(),
-                        any(BookingStatus.class),
-                        any(LocalDateTime.class)
-                ))
-                .thenReturn(null);
-        Mockito
-                .when(bookingStorage.findFirstByItemIdAndStatusNotAndStartAfterOrderByStartAsc(
-                        anyInt(),
-                        any(BookingStatus.class),
-                        any(LocalDateTime.class)
-                ))
-                .thenReturn(booking);
-        Mockito
-                .when(commentStorage.findByItemIdOrderByCreatedDesc(anyInt()))
-                .thenReturn(List.of(comment));
+                .when(itemCardRefresher.refreshStale(anyList()))
+                .then(returnsFirstArg());
 
         List<ItemDto> items = itemService.getItemsByUserId(1, 0, 5);
         ItemDto itemDtoOutgoing = items.get(0);
@@ -177,12 +313,35 @@ public class ItemServiceTest {
         assertThat(itemDtoOutgoing.getNextBooking().getId(), equalTo(booking.getId()));
         assertThat(itemDtoOutgoing.getComments().size(), equalTo(1));
         assertThat(itemDtoOutgoing.getComments().get(0).getId(), equalTo(comment.getId()));
+        assertThat(itemDtoOutgoing.getCommentCount(), equalTo(1));
+        Mockito.verifyNoInteractions(bookingStorage, commentStorage);
+    }
+
+    @Test
+    public void shouldGetItemsByUserIdAfterCursor() {
+        ItemCard card = cardFromItem(item, null, null, Collections.emptyList(), 0, 0);
+        Mockito
+                .when(userExistenceCache.exists(anyInt()))
+                .thenReturn(true);
+        Mockito
+                .when(itemCardStorage.findByOwnerIdAndItemIdGreaterThanOrderByItemId(eq(1), eq(7), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(card)));
+        Mockito
+                .when(itemCardRefresher.refreshStale(anyList()))
+                .then(returnsFirstArg());
+
+        Slice<ItemDto> items = itemService.getItemsByUserIdAfter(1, PageCursor.encode(7), 5);
+
+        assertThat(items.getNumberOfElements(), equalTo(1));
+        assertThat(items.hasNext(), equalTo(false));
+        assertThat(items.getContent().get(0).getId(), equalTo(item.getId()));
+        assertThat(items.getContent().get(0).getComments(), equalTo(Collections.emptyList()));
     }
 
     @Test
     public void shouldNotGetItemsByUserIdWhenUserNotFound() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(false);
 
         UserNotFoundException e = Assertions.assertThrows(
@@ -215,6 +374,85 @@ public class ItemServiceTest {
         assertThat(itemDtoOutgoing.getLastBooking(), nullValue());
         assertThat(itemDtoOutgoing.getNextBooking(), nullValue());
         assertThat(itemDtoOutgoing.getComments(), nullValue());
+        Mockito.verify(itemSearchIndex).index(any(Item.class));
+    }
+
+    @Test
+    public void shouldAddItems() {
+        Mockito
+                .when(userStorage.findById(1))
+                .thenReturn(Optional.of(user));
+        Mockito
+                .when(itemRequestStorage.findAllById(Set.of(1, 5)))
+                .thenReturn(List.of(itemRequest));
+        Mockito
+                .when(itemStorage.saveAll(anyList()))
+                .then(returnsFirstArg());
+        ItemDto withRequest = itemToDto(item, null, null, null);
+        ItemDto withMissingRequest = new ItemDto(null, "Item 2", "Item 2 description", true, 5, null, null, null, null);
+        ItemDto withoutRequest = new ItemDto(null, "Item 3", "Item 3 description", false, null, null, null, null, null);
+
+        List<ItemBatchResultDto> results = itemService.addItems(
+                1,
+                List.of(withRequest, withMissingRequest, withoutRequest)
+        );
+
+        assertThat(results.size(), equalTo(3));
+        assertThat(results.get(0).getItem().getRequestId(), equalTo(itemRequest.getId()));
+        assertThat(results.get(1).getItem(), nullValue());
+        assertThat(results.get(1).getError(), equalTo("Запрос с id=5 не найден"));
+        assertThat(results.get(2).getIndex(), equalTo(2));
+        assertThat(results.get(2).getItem().getName(), equalTo("Item 3"));
+        Mockito.verify(itemStorage).saveAll(argThat(items -> ((List<Item>) items).size() == 2));
+        Mockito.verify(itemSearchIndex, Mockito.times(2)).index(any(Item.class));
+    }
+
+    @Test
+    public void shouldReportInvalidRowsWhenAddItems() {
+        Mockito
+                .when(userStorage.findById(1))
+                .thenReturn(Optional.of(user));
+        Mockito
+                .when(itemStorage.saveAll(anyList()))
+                .then(returnsFirstArg());
+        ItemDto valid = new ItemDto(null, "Item 1", "Item 1 description", true, null, null, null, null, null);
+        ItemDto blankDescription = new ItemDto(null, "Item 2", " ", true, null, null, null, null, null);
+        ItemDto longName = new ItemDto(null, "n".repeat(129), "Item 3 description", true, null, null, null, null, null);
+        ItemDto withoutAvailable = new ItemDto(null, "Item 4", "Item 4 description", null, null, null, null, null, null);
+        ItemDto withoutNameAndAvailable = new ItemDto(null, null, "Item 5 description", null, null, null, null, null, null);
+
+        List<ItemBatchResultDto> results = itemService.addItems(
+                1,
+                Arrays.asList(valid, blankDescription, longName, withoutAvailable, null, withoutNameAndAvailable)
+        );
+
+        assertThat(results.size(), equalTo(6));
+        assertThat(results.get(0).getItem().getName(), equalTo("Item 1"));
+        assertThat(results.get(1).getError(), equalTo("Описание вещи не может быть пустым"));
+        assertThat(results.get(2).getError(), equalTo("Имя вещи не может быть длиннее 128 символов"));
+        assertThat(results.get(3).getError(), equalTo("Должна быть указана доступность вещи"));
+        assertThat(results.get(4).getError(), equalTo("Вещь не может быть пустой"));
+        assertThat(
+                results.get(5).getError(),
+                equalTo("Должна быть указана доступность вещи; Имя вещи не может быть пустым")
+        );
+        Mockito.verify(itemStorage).saveAll(argThat(items -> ((List<Item>) items).size() == 1));
+        Mockito.verifyNoInteractions(itemRequestStorage);
+    }
+
+    @Test
+    public void shouldNotAddItemsWhenUserNotFound() {
+        Mockito
+                .when(userStorage.findById(anyInt()))
+                .thenReturn(Optional.empty());
+
+        UserNotFoundException e = Assertions.assertThrows(
+                UserNotFoundException.class,
+                () -> itemService.addItems(1, List.of(itemToDto(item, null, null, null)))
+        );
+
+        assertThat(e.getMessage(), equalTo("Пользователь с id=1 не найден"));
+        Mockito.verifyNoInteractions(itemStorage);
     }
 
     @Test
@@ -319,18 +557,21 @@ public class ItemServiceTest {
     @Test
     public void shouldDeleteItem() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(true);
 
         itemService.deleteItem(1, 1);
 
         Mockito.verify(itemStorage).deleteById(anyInt());
+        Mockito.verify(itemSearchIndex).remove(1);
+        Mockito.verify(itemAvailabilityIndex).evict(1);
+        Mockito.verify(itemViewCache).evict(1);
     }
 
     @Test
     public void shouldNotDeleteItemWhenUserNotFound() {
         Mockito
-                .when(userStorage.existsById(anyInt()))
+                .when(userExistenceCache.exists(anyInt()))
                 .thenReturn(false);
 
         UserNotFoundException e = Assertions.assertThrows(
@@ -341,11 +582,63 @@ public class ItemServiceTest {
         assertThat(e.getMessage(), equalTo("Пользователь с id=1 не найден"));
     }
 
+    @Test
+    public void shouldGetItemAvailability() {
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+        LocalDateTime to = from.plusDays(2);
+        BookingInterval interval = new BookingInterval(1, from, to, BookingStatus.WAITING);
+        Mockito
+                .when(itemAvailabilityIndex.contains(1))
+                .thenReturn(true);
+        Mockito
+                .when(itemAvailabilityIndex.hasApprovedOverlap(1, from, to))
+                .thenReturn(false);
+        Mockito
+                .when(itemAvailabilityIndex.getBookings(1, from, to))
+                .thenReturn(List.of(interval));
+
+        ItemAvailabilityDto availability = itemService.getItemAvailability(1, from, to);
+
+        assertThat(availability.isAvailable(), equalTo(true));
+        assertThat(availability.getBookings(), equalTo(List.of(interval)));
+        Mockito.verifyNoInteractions(itemStorage, bookingStorage);
+    }
+
+    @Test
+    public void shouldNotGetItemAvailabilityWhenItemNotFound() {
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+        Mockito
+                .when(itemAvailabilityIndex.contains(1))
+                .thenReturn(false);
+        Mockito
+                .when(itemStorage.existsById(1))
+                .thenReturn(false);
+
+        ItemNotFoundException e = Assertions.assertThrows(
+                ItemNotFoundException.class,
+                () -> itemService.getItemAvailability(1, from, from.plusDays(1))
+        );
+
+        assertThat(e.getMessage(), equalTo("Вещь с id=1 не найдена"));
+    }
+
+    @Test
+    public void shouldNotGetItemAvailabilityWhenPeriodInvalid() {
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+
+        BookingEndTimeException e = Assertions.assertThrows(
+                BookingEndTimeException.class,
+                () -> itemService.getItemAvailability(1, from, from)
+        );
+
+        assertThat(e.getMessage(), equalTo("Конец периода должен быть позже начала"));
+    }
+
     @Test
     public void shouldFindItems() {
         Mockito
                 .when(itemStorage.findByText(any(String.class), any(Pageable.class)))
-                .thenReturn(List.of(item));
+                .thenReturn(List.of(itemSummary));
 
         List<ItemDto> items = itemService.findItems("Test", 0, 5);
         ItemDto itemDtoOutgoing = items.get(0);
@@ -360,6 +653,22 @@ public class ItemServiceTest {
         assertThat(itemDtoOutgoing.getComments(), nullValue());
     }
 
+    @Test
+    public void shouldFindItemsWithSearchIndex() {
+        ItemDto itemDto = itemToDto(item, null, null, null);
+        Mockito
+                .when(itemSearchIndex.isEnabled())
+                .thenReturn(true);
+        Mockito
+                .when(itemSearchIndex.search("Test", 0, 5))
+                .thenReturn(List.of(itemDto));
+
+        List<ItemDto> items = itemService.findItems("Test", 0, 5);
+
+        assertThat(items, equalTo(List.of(itemDto)));
+        Mockito.verifyNoInteractions(itemStorage);
+    }
+
     @Test
     public void shouldNotFindItemsWhenBlankText() {
         List<ItemDto> items = itemService.findItems("", 0, 5);
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.unit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.user.cache.UserExistenceCache;
+import ru.practicum.shareit.user.storage.UserStorage;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+@ExtendWith(MockitoExtension.class)
+public class UserExistenceCacheTest {
+    @Mock
+    private UserStorage userStorage;
+    private UserExistenceCache userExistenceCache;
+
+    @BeforeEach
+    public void setUp() {
+        userExistenceCache = new UserExistenceCache(userStorage, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    public void shouldCacheExistingUsersOnly() {
+        Mockito
+                .when(userStorage.existsById(1))
+                .thenReturn(true);
+        Mockito
+                .when(userStorage.existsById(2))
+                .thenReturn(false)
+                .thenReturn(true);
+
+        assertThat(userExistenceCache.exists(1), equalTo(true));
+        assertThat(userExistenceCache.exists(1), equalTo(true));
+        assertThat(userExistenceCache.exists(2), equalTo(false));
+        assertThat(userExistenceCache.exists(2), equalTo(true));
+        Mockito.verify(userStorage, Mockito.times(1)).existsById(1);
+        Mockito.verify(userStorage, Mockito.times(2)).existsById(2);
+    }
+
+    @Test
+    public void shouldFollowAddedAndRemovedUsers() {
+        Mockito
+                .when(userStorage.existsById(1))
+                .thenReturn(false);
+
+        userExistenceCache.add(1);
+
+        assertThat(userExistenceCache.exists(1), equalTo(true));
+        Mockito.verifyNoInteractions(userStorage);
+
+        userExistenceCache.remove(1);
+
+        assertThat(userExistenceCache.exists(1), equalTo(false));
+    }
+}
@@ -11,6 +11,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import ru.practicum.shareit.exception.UserAlreadyExistsException;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.cache.ItemViewCache;
+import ru.practicum.shareit.item.card.ItemCardRefresher;
+import ru.practicum.shareit.user.cache.UserExistenceCache;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.model.UserDto;
 import ru.practicum.shareit.user.service.UserServiceImpl;
@@ -30,6 +33,12 @@ import static ru.practicum.shareit.user.model.UserMapper.userToDto;
 public class UserServiceTest {
     @Mock
     private UserStorage userStorage;
+    @Mock
+    private UserExistenceCache userExistenceCache;
+    @Mock
+    private ItemCardRefresher itemCardRefresher;
+    @Mock
+    private ItemViewCache itemViewCache;
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -85,7 +94,7 @@ public class UserServiceTest {
     @Test
     public void shouldAddUser() {
         Mockito
-                .when(userStorage.save(any(User.class)))
+                .when(userStorage.saveAndFlush(any(User.class)))
                 .then(returnsFirstArg());
 
         UserDto userDtoOutgoing = userService.addUser(userToDto(user));
@@ -93,12 +102,13 @@ public class UserServiceTest {
         assertThat(userDtoOutgoing.getId(), equalTo(user.getId()));
         assertThat(userDtoOutgoing.getName(), equalTo(user.getName()));
         assertThat(userDtoOutgoing.getEmail(), equalTo(user.getEmail()));
+        Mockito.verify(userExistenceCache).add(user.getId());
     }
 
     @Test
     public void shouldNotAddUserWhenEmailNotUnique() {
         Mockito
-                .when(userStorage.save(any(User.class)))
+                .when(userStorage.saveAndFlush(any(User.class)))
                 .thenThrow(DataIntegrityViolationException.class);
 
         UserAlreadyExistsException e = Assertions.assertThrows(
@@ -115,7 +125,7 @@ public class UserServiceTest {
                 .when(userStorage.findById(anyInt()))
                 .thenReturn(Optional.of(user));
         Mockito
-                .when(userStorage.save(any(User.class)))
+                .when(userStorage.saveAndFlush(any(User.class)))
                 .then(returnsFirstArg());
 
         UserDto userDtoOutgoing = userService.updateUser(userToDto(user));
@@ -125,6 +135,38 @@ public class UserServiceTest {
         assertThat(userDtoOutgoing.getEmail(), equalTo(user.getEmail()));
     }
 
+    @Test
+    public void shouldEvictCommentedItemViewsOnRename() {
+        Mockito
+                .when(userStorage.findById(anyInt()))
+                .thenReturn(Optional.of(user));
+        Mockito
+                .when(userStorage.saveAndFlush(any(User.class)))
+                .then(returnsFirstArg());
+        Mockito
+                .when(itemCardRefresher.markStaleCommentedBy(1))
+                .thenReturn(List.of(3, 4));
+
+        userService.updateUser(new UserDto(1, "renamed", null));
+
+        Mockito.verify(itemViewCache).evict(3);
+        Mockito.verify(itemViewCache).evict(4);
+    }
+
+    @Test
+    public void shouldNotEvictItemViewsWhenNameUnchanged() {
+        Mockito
+                .when(userStorage.findById(anyInt()))
+                .thenReturn(Optional.of(user));
+        Mockito
+                .when(userStorage.saveAndFlush(any(User.class)))
+                .then(returnsFirstArg());
+
+        userService.updateUser(new UserDto(1, null, "user1-new@email.com"));
+
+        Mockito.verifyNoInteractions(itemCardRefresher, itemViewCache);
+    }
+
     @Test
     public void shouldNotUpdateUserWhenUserNotFound() {
         Mockito
@@ -145,7 +187,7 @@ public class UserServiceTest {
                 .when(userStorage.findById(anyInt()))
                 .thenReturn(Optional.of(user));
         Mockito
-                .when(userStorage.save(any(User.class)))
+                .when(userStorage.saveAndFlush(any(User.class)))
                 .thenThrow(DataIntegrityViolationException.class);
 
         UserAlreadyExistsException e = Assertions.assertThrows(
@@ -161,5 +203,6 @@ public class UserServiceTest {
         userService.deleteUser(1);
 
         Mockito.verify(userStorage).deleteById(anyInt());
+        Mockito.verify(userExistenceCache).remove(1);
     }
 }
\ No newline at end of file